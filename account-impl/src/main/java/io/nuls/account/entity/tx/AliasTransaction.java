@@ -29,6 +29,7 @@ import io.nuls.account.entity.validator.AliasValidator;
 import io.nuls.core.constant.TransactionConstant;
 import io.nuls.core.exception.NulsException;
 import io.nuls.core.utils.io.NulsByteBuffer;
+import io.nuls.core.validate.ValidatorManager;
 import io.nuls.ledger.entity.params.CoinTransferData;
 import io.nuls.ledger.entity.tx.AbstractCoinTransaction;
 
@@ -38,14 +39,16 @@ import io.nuls.ledger.entity.tx.AbstractCoinTransaction;
  */
 public class AliasTransaction extends AbstractCoinTransaction<Alias> {
 
+    static {
+        ValidatorManager.addValidator(AliasTransaction.class, AliasValidator.getInstance());
+    }
+
     public AliasTransaction() throws NulsException {
         super(TransactionConstant.TX_TYPE_SET_ALIAS, null, null);
-        this.registerValidator(AliasValidator.getInstance());
     }
 
     public AliasTransaction(CoinTransferData coinParam, String password, Alias alias) throws NulsException {
         super(TransactionConstant.TX_TYPE_SET_ALIAS, coinParam, password);
-        this.registerValidator(AliasValidator.getInstance());
         this.setTxData(alias);
     }
 
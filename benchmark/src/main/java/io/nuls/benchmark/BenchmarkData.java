@@ -0,0 +1,130 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2018 nuls.io
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.nuls.benchmark;
+
+import io.nuls.core.chain.entity.Block;
+import io.nuls.core.chain.entity.BlockHeader;
+import io.nuls.core.chain.entity.Na;
+import io.nuls.core.chain.entity.NulsDigestData;
+import io.nuls.core.chain.entity.NulsSignData;
+import io.nuls.core.chain.entity.Transaction;
+import io.nuls.core.chain.manager.TransactionManager;
+import io.nuls.core.crypto.ECKey;
+import io.nuls.core.exception.NulsException;
+import io.nuls.core.script.P2PKHScriptSig;
+import io.nuls.core.utils.io.NulsByteBuffer;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * synthetic chain data for the benchmarks, nothing is read from the network or the database
+ *
+ * @author agent
+ * @date 2026/10/18
+ */
+public class BenchmarkData {
+
+    public static final int TX_TYPE = 10001;
+
+    private static final Random RANDOM = new Random(20171018L);
+
+    private static final ECKey KEY = new ECKey();
+
+    static {
+        TransactionManager.putTx(TX_TYPE, BenchmarkTransaction.class, null);
+    }
+
+    /**
+     * a transaction which carries a digest as its data and a real signature
+     */
+    public static class BenchmarkTransaction extends Transaction<NulsDigestData> {
+
+        public BenchmarkTransaction() {
+            super(TX_TYPE);
+        }
+
+        @Override
+        public NulsDigestData parseTxData(NulsByteBuffer byteBuffer) throws NulsException {
+            return byteBuffer.readHash();
+        }
+    }
+
+    public static ECKey getKey() {
+        return KEY;
+    }
+
+    public static synchronized byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        RANDOM.nextBytes(bytes);
+        return bytes;
+    }
+
+    public static NulsDigestData randomDigest() {
+        return NulsDigestData.calcDigestData(randomBytes(32));
+    }
+
+    public static P2PKHScriptSig sign(NulsDigestData digestData) {
+        NulsSignData signData = new NulsSignData();
+        signData.setSignAlgType(NulsSignData.SIGN_ALG_ECC);
+        signData.setSignBytes(KEY.sign(digestData.getDigestBytes()));
+        return new P2PKHScriptSig(signData, KEY.getPubKey());
+    }
+
+    public static BenchmarkTransaction createTx() throws IOException {
+        BenchmarkTransaction tx = new BenchmarkTransaction();
+        tx.setFee(Na.valueOf(100000));
+        tx.setRemark(randomBytes(32));
+        tx.setTxData(randomDigest());
+        tx.setHash(NulsDigestData.calcDigestData(tx.serialize()));
+        tx.setScriptSig(sign(tx.getHash()).serialize());
+        return tx;
+    }
+
+    public static Block createBlock(int txCount) throws IOException {
+        List<Transaction> txs = new ArrayList<>();
+        List<NulsDigestData> txHashList = new ArrayList<>();
+        for (int i = 0; i < txCount; i++) {
+            Transaction tx = createTx();
+            txs.add(tx);
+            txHashList.add(tx.getHash());
+        }
+        BlockHeader header = new BlockHeader();
+        header.setPreHash(randomDigest());
+        header.setMerkleHash(NulsDigestData.calcMerkleDigestData(txHashList));
+        header.setTime(System.currentTimeMillis());
+        header.setHeight(1000000L);
+        header.setTxCount(txCount);
+        header.setPackingAddress("2CjPVMKST7h4Q5Dqa8Q9P9CwYSmN7mG");
+        header.setExtend(randomBytes(16));
+        header.setHash(NulsDigestData.calcDigestData(header.serialize()));
+        header.setScriptSig(sign(header.getHash()));
+        Block block = new Block();
+        block.setHeader(header);
+        block.setTxs(txs);
+        return block;
+    }
+}
@@ -0,0 +1,126 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2018 nuls.io
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.nuls.benchmark;
+
+import io.nuls.cache.service.impl.EhCacheServiceImpl;
+import io.nuls.cache.service.intf.CacheService;
+import io.nuls.core.chain.entity.NulsDigestData;
+import io.nuls.core.chain.entity.NulsDigestKey;
+import io.nuls.core.utils.spring.lite.core.SpringLiteContext;
+import io.nuls.ledger.entity.OutPutStatusEnum;
+import io.nuls.ledger.entity.UtxoOutput;
+import io.nuls.ledger.service.impl.LedgerCacheService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * put / get of EhCacheServiceImpl and the UTXO operations of LedgerCacheService
+ *
+ * @author agent
+ * @date 2026/10/18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheBenchmark {
+
+    private static final String CACHE_NAME = "benchmark-cache";
+
+    private static final int KEY_COUNT = 1 << 14;
+
+    private CacheService<NulsDigestKey, UtxoOutput> cacheService;
+    private LedgerCacheService ledgerCacheService;
+    private NulsDigestKey[] keys;
+    private UtxoOutput[] outputs;
+    private int index;
+
+    @Setup
+    public void setup() {
+        //LedgerCacheService takes its CacheService from the bean context
+        SpringLiteContext.init(CacheBenchmark.class.getPackage().getName());
+        SpringLiteContext.putBean(EhCacheServiceImpl.class);
+        cacheService = new EhCacheServiceImpl<>();
+        cacheService.createCache(CACHE_NAME, 64);
+        ledgerCacheService = LedgerCacheService.getInstance();
+        keys = new NulsDigestKey[KEY_COUNT];
+        outputs = new UtxoOutput[KEY_COUNT];
+        for (int i = 0; i < KEY_COUNT; i++) {
+            NulsDigestData txHash = BenchmarkData.randomDigest();
+            UtxoOutput output = new UtxoOutput(txHash);
+            output.setIndex(i % 4);
+            output.setValue(100000000L);
+            output.setAddress("2CjPVMKST7h4Q5Dqa8Q9P9CwYSmN7m" + (i % 64));
+            output.setStatus(OutPutStatusEnum.UTXO_CONFIRM_UNSPEND);
+            keys[i] = NulsDigestKey.of(txHash, output.getIndex());
+            outputs[i] = output;
+            cacheService.putElement(CACHE_NAME, keys[i], output);
+            ledgerCacheService.putUtxo(keys[i], output);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        cacheService.removeCache(CACHE_NAME);
+        ledgerCacheService.clear();
+    }
+
+    private int next() {
+        index = (index + 1) & (KEY_COUNT - 1);
+        return index;
+    }
+
+    @Benchmark
+    public void cachePut() {
+        int i = next();
+        cacheService.putElement(CACHE_NAME, keys[i], outputs[i]);
+    }
+
+    @Benchmark
+    public UtxoOutput cacheGet() {
+        return cacheService.getElement(CACHE_NAME, keys[next()]);
+    }
+
+    @Benchmark
+    public UtxoOutput getUtxo() {
+        return ledgerCacheService.getUtxo(keys[next()]);
+    }
+
+    @Benchmark
+    public boolean updateUtxoStatus() {
+        int i = next();
+        ledgerCacheService.updateUtxoStatus(keys[i], OutPutStatusEnum.UTXO_CONFIRM_TIME_LOCK, OutPutStatusEnum.UTXO_CONFIRM_UNSPEND);
+        return ledgerCacheService.updateUtxoStatus(keys[i], OutPutStatusEnum.UTXO_CONFIRM_UNSPEND, OutPutStatusEnum.UTXO_CONFIRM_TIME_LOCK);
+    }
+
+    @Benchmark
+    public void removeAndPutUtxo() {
+        int i = next();
+        ledgerCacheService.removeUtxo(keys[i]);
+        ledgerCacheService.putUtxo(keys[i], outputs[i]);
+    }
+}
@@ -0,0 +1,102 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2018 nuls.io
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.nuls.benchmark;
+
+import io.nuls.core.chain.entity.NulsDigestData;
+import io.nuls.core.crypto.ECKey;
+import io.nuls.core.utils.crypto.MerkleHashBuilder;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * hashing, merkle hash and ECDSA sign / verify
+ *
+ * @author agent
+ * @date 2026/10/18
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DigestBenchmark {
+
+    /**
+     * the input of the plain digest, only calcDigest runs once per data size
+     */
+    @State(Scope.Benchmark)
+    public static class DataState {
+
+        @Param({"256", "4096"})
+        public int dataSize;
+
+        private byte[] data;
+
+        @Setup
+        public void setup() {
+            data = BenchmarkData.randomBytes(dataSize);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class SignState {
+
+        private List<NulsDigestData> txHashList;
+        private byte[] digest;
+        private byte[] signature;
+
+        @Setup
+        public void setup() {
+            txHashList = new ArrayList<>();
+            for (int i = 0; i < 2000; i++) {
+                txHashList.add(BenchmarkData.randomDigest());
+            }
+            digest = NulsDigestData.calcDigestData(BenchmarkData.randomBytes(256)).getDigestBytes();
+            signature = BenchmarkData.getKey().sign(digest);
+        }
+    }
+
+    @Benchmark
+    public NulsDigestData calcDigest(DataState state) {
+        return NulsDigestData.calcDigestData(state.data);
+    }
+
+    @Benchmark
+    public NulsDigestData merkleHash(SignState state) {
+        return MerkleHashBuilder.calcMerkleHash(state.txHashList);
+    }
+
+    @Benchmark
+    public byte[] sign(SignState state) {
+        return BenchmarkData.getKey().sign(state.digest);
+    }
+
+    @Benchmark
+    public boolean verify(SignState state) {
+        return ECKey.verify(state.digest, state.signature, BenchmarkData.getKey().getPubKey());
+    }
+}
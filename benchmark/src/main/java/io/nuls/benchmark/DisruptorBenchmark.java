@@ -0,0 +1,87 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2018 nuls.io
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.nuls.benchmark;
+
+import com.lmax.disruptor.WorkHandler;
+import io.nuls.core.module.manager.ModuleManager;
+import io.nuls.event.bus.module.impl.EventBusModuleBootstrap;
+import io.nuls.event.bus.processor.manager.ProcessData;
+import io.nuls.event.bus.utils.disruptor.DisruptorEvent;
+import io.nuls.event.bus.utils.disruptor.DisruptorUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * events offered into a DisruptorUtil ring buffer and consumed by a worker pool
+ *
+ * @author agent
+ * @date 2026/10/18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DisruptorBenchmark {
+
+    private static final AtomicInteger DISRUPTOR_INDEX = new AtomicInteger();
+
+    @Param({"1", "4"})
+    public int workerCount;
+
+    private final LongAdder consumed = new LongAdder();
+    private String name;
+    private ProcessData data;
+
+    @Setup
+    public void setup() {
+        if (ModuleManager.getInstance().getModuleList().isEmpty()) {
+            ModuleManager.getInstance().regModule(new EventBusModuleBootstrap());
+        }
+        name = "benchmark-disruptor-" + DISRUPTOR_INDEX.incrementAndGet();
+        DisruptorUtil disruptorUtil = DisruptorUtil.getInstance();
+        disruptorUtil.createDisruptor(name, 1 << 12);
+        WorkHandler<DisruptorEvent<ProcessData>>[] handlers = new WorkHandler[workerCount];
+        for (int i = 0; i < workerCount; i++) {
+            handlers[i] = event -> consumed.increment();
+        }
+        disruptorUtil.handleEventsWithWorkerPool(name, handlers);
+        disruptorUtil.start(name);
+        data = new ProcessData(null, null);
+    }
+
+    @TearDown
+    public void tearDown() {
+        DisruptorUtil.getInstance().shutdown(name);
+    }
+
+    @Benchmark
+    public void offer() {
+        DisruptorUtil.getInstance().offer(name, data);
+    }
+}
@@ -0,0 +1,100 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2018 nuls.io
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.nuls.benchmark;
+
+import io.nuls.core.chain.entity.Block;
+import io.nuls.core.chain.entity.Transaction;
+import io.nuls.core.chain.manager.TransactionManager;
+import io.nuls.core.utils.io.NulsByteBuffer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * serialize and parse of transactions and blocks
+ *
+ * @author agent
+ * @date 2026/10/18
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializeBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class TxState {
+
+        private Transaction tx;
+        private byte[] txBytes;
+
+        @Setup
+        public void setup() throws Exception {
+            tx = BenchmarkData.createTx();
+            txBytes = tx.serialize();
+        }
+    }
+
+    /**
+     * only the block benchmarks run once per tx count
+     */
+    @State(Scope.Benchmark)
+    public static class BlockState {
+
+        @Param({"1", "1000"})
+        public int txCount;
+
+        private Block block;
+        private byte[] blockBytes;
+
+        @Setup
+        public void setup() throws Exception {
+            block = BenchmarkData.createBlock(txCount);
+            blockBytes = block.serialize();
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeTx(TxState state) throws Exception {
+        return state.tx.serialize();
+    }
+
+    @Benchmark
+    public Transaction parseTx(TxState state) throws Exception {
+        return TransactionManager.getInstance(new NulsByteBuffer(state.txBytes));
+    }
+
+    @Benchmark
+    public byte[] serializeBlock(BlockState state) throws Exception {
+        return state.block.serialize();
+    }
+
+    @Benchmark
+    public Block parseBlock(BlockState state) throws Exception {
+        Block parsed = new Block();
+        parsed.parse(state.blockBytes);
+        return parsed;
+    }
+}
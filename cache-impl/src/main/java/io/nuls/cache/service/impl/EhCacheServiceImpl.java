@@ -45,13 +45,13 @@ public class EhCacheServiceImpl<K, T> implements CacheService<K, T> {
 
     @Override
     public void createCache(String cacheName, int heapMb, int timeToLiveSeconds, int timeToIdleSeconds, NulsCacheListener listener) {
-        cacheManager.createCache(cacheName, String.class, Serializable.class, heapMb, timeToLiveSeconds, timeToIdleSeconds, listener);
+        cacheManager.createCache(cacheName, Serializable.class, Serializable.class, heapMb, timeToLiveSeconds, timeToIdleSeconds, listener);
     }
 
     @Override
     public void createCache(String title, Map<String, Object> initParams) {
 
-        Class keyType = String.class;
+        Class keyType = Serializable.class;
         if (initParams.get(EhCacheConstant.KEY_TYPE_FIELD) != null) {
             keyType = (Class) initParams.get(EhCacheConstant.KEY_TYPE_FIELD);
         }
@@ -76,12 +76,12 @@ public class EhCacheServiceImpl<K, T> implements CacheService<K, T> {
 
     @Override
     public void createCache(String title, int heapMb) {
-        cacheManager.createCache(title, String.class, Serializable.class, heapMb, 0, 0);
+        cacheManager.createCache(title, Serializable.class, Serializable.class, heapMb, 0, 0);
     }
 
     @Override
     public void createCache(String title, int heapMb, int timeToLiveSeconds, int timeToIdleSeconds) {
-        cacheManager.createCache(title, String.class, Serializable.class, heapMb, timeToLiveSeconds, timeToIdleSeconds);
+        cacheManager.createCache(title, Serializable.class, Serializable.class, heapMb, timeToLiveSeconds, timeToIdleSeconds);
     }
 
 
@@ -102,6 +102,18 @@ public class EhCacheServiceImpl<K, T> implements CacheService<K, T> {
         cacheManager.getCache(cacheTitle).put(key, valueObj);
     }
 
+    @Override
+    public boolean putElementIfAbsent(String cacheTitle, K key, Object value) {
+        Object valueObj = value;
+        if (value instanceof NulsCloneable) {
+            valueObj = ((NulsCloneable) value).copy();
+        }
+        if (null == cacheManager.getCache(cacheTitle)) {
+            throw new NulsRuntimeException(ErrorCode.FAILED, "Cache not exist!");
+        }
+        return null == cacheManager.getCache(cacheTitle).putIfAbsent(key, valueObj);
+    }
+
     @Override
     public void putElement(CacheElement element) {
         if (null == cacheManager.getCache(element.getCacheTitle())) {
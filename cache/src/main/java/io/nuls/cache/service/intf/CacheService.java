@@ -70,6 +70,16 @@ public interface CacheService<K, V> {
      */
     void putElement(String cacheTitle, K key, Object value);
 
+    /**
+     * put data to a cache unless the key is already there, as one atomic operation
+     *
+     * @param cacheTitle
+     * @param key
+     * @param value
+     * @return true if the data is put
+     */
+    boolean putElementIfAbsent(String cacheTitle, K key, Object value);
+
     /**
      * put data to a cache
      *
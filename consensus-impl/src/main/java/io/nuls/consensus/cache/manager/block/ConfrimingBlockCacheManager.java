@@ -109,6 +109,9 @@ public class ConfrimingBlockCacheManager {
     }
 
     public void removeBlock(String hash) {
+        if (null == txsCacheMap || headerCacheMap == null) {
+            return;
+        }
         this.txsCacheMap.remove(hash);
         this.headerCacheMap.remove(hash);
     }
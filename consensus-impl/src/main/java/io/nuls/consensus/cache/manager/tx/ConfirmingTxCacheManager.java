@@ -25,6 +25,7 @@ package io.nuls.consensus.cache.manager.tx;
 
 import io.nuls.cache.util.CacheMap;
 import io.nuls.core.chain.entity.NulsDigestData;
+import io.nuls.core.chain.entity.NulsDigestKey;
 import io.nuls.core.chain.entity.Transaction;
 
 import java.util.List;
@@ -40,7 +41,7 @@ public class ConfirmingTxCacheManager {
      * 2 minutes alive
      */
     private static final int LIVE_TIME = 120;
-    private CacheMap<String, Transaction> txCache;
+    private CacheMap<NulsDigestKey, Transaction> txCache;
 
     private ConfirmingTxCacheManager() {
     }
@@ -55,13 +56,13 @@ public class ConfirmingTxCacheManager {
 
     public void putTxList(List<Transaction> txs) {
         for (Transaction tx : txs) {
-            txCache.put(tx.getHash().getDigestHex(), tx);
+            txCache.put(tx.getHash().getDigestKey(), tx);
         }
     }
 
     public void removeTxList(List<NulsDigestData> txHashList) {
         for (NulsDigestData hash : txHashList) {
-            txCache.remove(hash.getDigestHex());
+            txCache.remove(hash.getDigestKey());
         }
     }
 
@@ -73,10 +74,10 @@ public class ConfirmingTxCacheManager {
         if(null==hash){
             return null;
         }
-        return txCache.get(hash.getDigestHex());
+        return txCache.get(hash.getDigestKey());
     }
 
     public void putTx(Transaction tx) {
-        this.txCache.put(tx.getHash().getDigestHex(),tx);
+        this.txCache.put(tx.getHash().getDigestKey(),tx);
     }
 }
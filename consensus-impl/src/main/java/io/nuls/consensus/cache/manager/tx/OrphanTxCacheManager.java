@@ -27,6 +27,7 @@ import io.nuls.cache.util.CacheMap;
 import io.nuls.consensus.cache.manager.tx.listener.ReceivedTxCacheListener;
 import io.nuls.consensus.constant.ConsensusCacheConstant;
 import io.nuls.core.chain.entity.NulsDigestData;
+import io.nuls.core.chain.entity.NulsDigestKey;
 import io.nuls.core.chain.entity.Transaction;
 
 import java.util.List;
@@ -38,7 +39,7 @@ import java.util.List;
 public class OrphanTxCacheManager {
     private static OrphanTxCacheManager INSTANCE = new OrphanTxCacheManager();
     private static final String CACHE_NAME = "Orphan-tx-cache";
-    private CacheMap<String, Transaction> txCache;
+    private CacheMap<NulsDigestKey, Transaction> txCache;
 
     private OrphanTxCacheManager() {
 
@@ -53,17 +54,17 @@ public class OrphanTxCacheManager {
     }
 
     public boolean txExist(NulsDigestData hash) {
-        return null != txCache.get(hash.getDigestHex());
+        return null != txCache.get(hash.getDigestKey());
     }
 
     public Transaction getTx(NulsDigestData txHash) {
 
-        return txCache.get(txHash.getDigestHex());
+        return txCache.get(txHash.getDigestKey());
     }
 
     public void removeTx(List<NulsDigestData> txHashList) {
         for (NulsDigestData hash : txHashList) {
-            txCache.remove(hash.getDigestHex());
+            txCache.remove(hash.getDigestKey());
         }
     }
 
@@ -76,6 +77,6 @@ public class OrphanTxCacheManager {
     }
 
     public void putTx(Transaction tx) {
-        txCache.put(tx.getHash().getDigestHex(), tx);
+        txCache.put(tx.getHash().getDigestKey(), tx);
     }
 }
@@ -25,6 +25,7 @@ package io.nuls.consensus.cache.manager.tx.listener;
 
 import io.nuls.cache.entity.CacheListenerItem;
 import io.nuls.cache.listener.intf.NulsCacheListener;
+import io.nuls.core.chain.entity.NulsDigestKey;
 import io.nuls.core.chain.entity.Transaction;
 import io.nuls.core.constant.TxStatusEnum;
 import io.nuls.core.context.NulsContext;
@@ -36,16 +37,16 @@ import io.nuls.ledger.service.intf.LedgerService;
  * @author Niels
  * @date 2018/1/24
  */
-public class ReceivedTxCacheListener implements NulsCacheListener<String, Transaction> {
+public class ReceivedTxCacheListener implements NulsCacheListener<NulsDigestKey, Transaction> {
 
     private LedgerService ledgerService = NulsContext.getServiceBean(LedgerService.class);
 
     @Override
-    public void onCreate(CacheListenerItem<String, Transaction> item) {
+    public void onCreate(CacheListenerItem<NulsDigestKey, Transaction> item) {
     }
 
     @Override
-    public void onEvict(CacheListenerItem<String, Transaction> item) {
+    public void onEvict(CacheListenerItem<NulsDigestKey, Transaction> item) {
         rollbackTx(item.getOldValue());
     }
 
@@ -62,15 +63,15 @@ public class ReceivedTxCacheListener implements NulsCacheListener<String, Transa
     }
 
     @Override
-    public void onRemove(CacheListenerItem<String, Transaction> item) {
+    public void onRemove(CacheListenerItem<NulsDigestKey, Transaction> item) {
     }
 
     @Override
-    public void onUpdate(CacheListenerItem<String, Transaction> item) {
+    public void onUpdate(CacheListenerItem<NulsDigestKey, Transaction> item) {
     }
 
     @Override
-    public void onExpire(CacheListenerItem<String, Transaction> item) {
+    public void onExpire(CacheListenerItem<NulsDigestKey, Transaction> item) {
         rollbackTx(item.getOldValue());
     }
 }
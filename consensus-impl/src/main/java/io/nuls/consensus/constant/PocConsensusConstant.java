@@ -37,6 +37,7 @@ public interface PocConsensusConstant {
     String CFG_CONSENSUS_SECTION = "consensus";
     String PROPERTY_PARTAKE_PACKING = "partake.packing";
     String PROPERTY_SEED_NODES = "seed.nodes";
+    String PROPERTY_HEADERS_FIRST = "headers.first";
     String SEED_NODES_DELIMITER = ",";
 
     String GENESIS_BLOCK_FILE = "block/genesis-block.json";
@@ -50,6 +51,10 @@ public interface PocConsensusConstant {
     short NOTICE_JOIN_CONSENSUS = 25;
     short NOTICE_EXIT_CONSENSUS = 26;
     short NOTICE_CANCEL_CONSENSUS = 27;
+
+    short EVENT_TYPE_GET_BLOCK_HEADERS = 28;
+    short EVENT_TYPE_BLOCK_HEADERS = 29;
+    short EVENT_TYPE_BLOCKS = 30;
     /**
      *   THE PARAMETERS OF CONSENSUS,bellow
      */
@@ -114,4 +119,10 @@ public interface PocConsensusConstant {
      * Penalty coefficient,greater than 4.
      */
     int CREDIT_MAGIC_NUM = 4;
+
+    /**
+     * the pool serving block ranges to other nodes, it waits on the peers instead of the event bus consumers
+     */
+    String BLOCK_SERVE_POOL_NAME = "block-serve";
+    int BLOCK_SERVE_THREAD_COUNT = 2;
 }
@@ -0,0 +1,89 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2018 nuls.io
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.nuls.consensus.entity;
+
+import io.nuls.core.chain.entity.BaseNulsData;
+import io.nuls.core.chain.entity.Block;
+import io.nuls.core.exception.NulsException;
+import io.nuls.core.utils.crypto.Utils;
+import io.nuls.core.utils.date.TimeService;
+import io.nuls.core.utils.io.NulsByteBuffer;
+import io.nuls.core.utils.io.NulsOutputStreamBuffer;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @author agent
+ * @date 2026/10/18
+ */
+public class BlocksResponse extends BaseNulsData {
+
+    public BlocksResponse() {
+        time = TimeService.currentTimeMillis();
+    }
+
+    private long time;
+
+    private List<Block> blockList = new ArrayList<>();
+
+    @Override
+    public int size() {
+        int size = 0;
+        size += Utils.sizeOfInt48();
+        size += Utils.sizeOfInt(blockList.size());
+        for (Block block : blockList) {
+            size += Utils.sizeOfNulsData(block);
+        }
+        return size;
+    }
+
+    @Override
+    protected void serializeToStream(NulsOutputStreamBuffer stream) throws IOException {
+        stream.writeInt48(time);
+        stream.writeVarInt(blockList.size());
+        for (Block block : blockList) {
+            stream.writeNulsData(block);
+        }
+    }
+
+    @Override
+    protected void parse(NulsByteBuffer byteBuffer) throws NulsException {
+        this.time = byteBuffer.readInt48();
+        long blockListSize = byteBuffer.readVarInt();
+        this.blockList = new ArrayList<>();
+        for (int i = 0; i < blockListSize; i++) {
+            blockList.add(byteBuffer.readNulsData(new Block()));
+        }
+    }
+
+    public List<Block> getBlockList() {
+        return blockList;
+    }
+
+    public void setBlockList(List<Block> blockList) {
+        this.blockList = blockList;
+    }
+}
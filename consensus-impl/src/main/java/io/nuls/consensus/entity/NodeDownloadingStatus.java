@@ -36,7 +36,7 @@ public class NodeDownloadingStatus {
     private long start;
     private long end;
     private Set<Long> downloadedSet = new HashSet<>();
-    private long updateTime;
+    private volatile long updateTime;
 
     public String getNodeId() {
         return nodeId;
@@ -78,7 +78,7 @@ public class NodeDownloadingStatus {
         downloadedSet.add(height);
     }
 
-    public boolean finished() {
+    public synchronized boolean finished() {
         return downloadedSet.size()==(end-start+1);
     }
 
@@ -25,16 +25,17 @@ package io.nuls.consensus.entity.block;
 
 import io.nuls.consensus.cache.manager.block.ConfrimingBlockCacheManager;
 import io.nuls.core.chain.entity.BlockHeader;
-import io.nuls.core.context.NulsContext;
-import io.nuls.core.utils.log.Log;
 
-import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
+ * Keeps the unsaved headers as a tree indexed by hash and by height, every leaf ends a chain,
+ * changes are serialized by the lock while lookups read the indexes without locking
+ *
  * @author Niels
  * @date 2018/1/12
  */
@@ -44,166 +45,222 @@ public class BifurcateProcessor {
 
     private ConfrimingBlockCacheManager confrimingBlockCacheManager = ConfrimingBlockCacheManager.getInstance();
 
-    private List<BlockHeaderChain> chainList = new CopyOnWriteArrayList<>();
-    private long maxHeight;
+    private final Map<String, BlockHeaderNode> hashIndex = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<Long, Set<String>> heightIndex = new ConcurrentSkipListMap<>();
+    /**
+     * the last node of every chain
+     */
+    private final Set<BlockHeaderNode> tipSet = Collections.newSetFromMap(new ConcurrentHashMap<BlockHeaderNode, Boolean>());
+    private final Lock lock = new ReentrantLock();
+    private volatile long maxHeight;
 
-    private BifurcateProcessor() {
+    BifurcateProcessor() {
     }
 
     public static BifurcateProcessor getInstance() {
         return INSTANCE;
     }
 
-    public synchronized void addHeader(BlockHeader header) {
-        boolean result = add(header);
-        if (result) {
-            if (header.getHeight() > maxHeight) {
-                maxHeight = header.getHeight();
+    public void addHeader(BlockHeader header) {
+        lock.lock();
+        try {
+            boolean result = add(header);
+            if (result) {
+                if (header.getHeight() > maxHeight) {
+                    maxHeight = header.getHeight();
+                }
+                checkIt();
             }
-            checkIt();
+        } finally {
+            lock.unlock();
         }
     }
 
     private void checkIt() {
         int maxSize = 0;
-        for (BlockHeaderChain chain : chainList) {
-            int listSize = chain.size();
-            if (maxSize < listSize) {
-                maxSize = listSize;
+        for (BlockHeaderNode tip : tipSet) {
+            if (maxSize < tip.getChainSize()) {
+                maxSize = tip.getChainSize();
             }
         }
-        Set<String> rightHashSet = new HashSet<>();
-        Set<String> removeHashSet = new HashSet<>();
-        for (int i = chainList.size() - 1; i >= 0; i--) {
-            BlockHeaderChain chain = chainList.get(i);
-            if (chain.size() < (maxSize - 6)) {
-                removeHashSet.addAll(chain.getHashSet());
-                this.chainList.remove(chain);
-            } else {
-                rightHashSet.addAll(chain.getHashSet());
-            }
+        prune(maxSize - 6);
+    }
+
+    private boolean add(BlockHeader header) {
+        String hash = header.getHash().getDigestHex();
+        if (hashIndex.containsKey(hash)) {
+            return false;
         }
+        BlockHeaderNode parent = hashIndex.get(header.getPreHash().getDigestHex());
+        if (null != parent && parent.getHeight() != header.getHeight() - 1) {
+            parent = null;
+        }
+        BlockHeaderNode node = new BlockHeaderNode(hash, header.getHeight(), parent);
+        if (null != parent) {
+            parent.addChild(node);
+            tipSet.remove(parent);
+        }
+        tipSet.add(node);
+        index(node);
+        return true;
+    }
 
-        for (String hash : removeHashSet) {
-            if (!rightHashSet.contains(hash)) {
-                confrimingBlockCacheManager.removeBlock(hash);
+    /**
+     * removes the chains shorter than the given size, headers shared with a longer chain are kept
+     */
+    private void prune(int minSize) {
+        for (BlockHeaderNode tip : new ArrayList<>(tipSet)) {
+            if (tip.getChainSize() >= minSize) {
+                continue;
+            }
+            tipSet.remove(tip);
+            BlockHeaderNode node = tip;
+            while (null != node && node.getChildren().isEmpty()) {
+                BlockHeaderNode parent = node.getParent();
+                unindex(node);
+                confrimingBlockCacheManager.removeBlock(node.getHash());
+                if (null != parent) {
+                    parent.removeChild(node);
+                } else {
+                    node.getBase().setRootCount(node.getBase().getRootCount() - 1);
+                }
+                node = parent;
             }
         }
-
     }
 
-    private boolean add(BlockHeader header) {
-        for (int i = 0; i < this.chainList.size(); i++) {
-            BlockHeaderChain chain = chainList.get(i);
-            if (chain.contains(header)) {
-                return false;
+    /**
+     * the header is saved, it is removed with all headers before it,
+     * branches forking below it go on as trees of their own and still count the headers they shared with it
+     */
+    public void removeHash(String hash) {
+        lock.lock();
+        try {
+            BlockHeaderNode node = hashIndex.get(hash);
+            if (null == node) {
+                return;
+            }
+            BlockHeaderNode.Base base = node.getBase();
+            int baseLength = base.getLength();
+            BlockHeaderNode child = null;
+            BlockHeaderNode current = node;
+            while (null != current) {
+                unindex(current);
+                tipSet.remove(current);
+                for (BlockHeaderNode other : current.getChildren()) {
+                    if (other == child) {
+                        continue;
+                    }
+                    other.setParent(null);
+                    if (current != node) {
+                        rebase(other, baseLength);
+                    }
+                }
+                child = current;
+                current = current.getParent();
             }
+            if (base.getRootCount() == 1) {
+                base.setLength(node.getLength());
+                base.setRootCount(node.getChildren().size());
+            } else {
+                //other roots keep the base
+                base.setRootCount(base.getRootCount() - 1);
+                for (BlockHeaderNode other : node.getChildren()) {
+                    rebase(other, node.getLength());
+                }
+            }
+        } finally {
+            lock.unlock();
         }
-        for (int i = 0; i < this.chainList.size(); i++) {
-            BlockHeaderChain chain = chainList.get(i);
-            int index = chain.indexOf(header.getPreHash().getDigestHex(), header.getHeight() - 1);
-            if (index == chain.size() - 1) {
-                chain.addHeader(header);
-                return true;
-            } else if (index >= 0) {
-                BlockHeaderChain newChain = chain.getBifurcateChain(header);
-                chainList.add(newChain);
-                return true;
+    }
+
+    /**
+     * gives a side branch that lost its root a base of its own
+     */
+    private void rebase(BlockHeaderNode root, int baseLength) {
+        BlockHeaderNode.Base base = new BlockHeaderNode.Base();
+        base.setLength(baseLength);
+        base.setRootCount(1);
+        Deque<BlockHeaderNode> stack = new ArrayDeque<>();
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            BlockHeaderNode node = stack.pop();
+            node.setBase(base);
+            for (BlockHeaderNode child : node.getChildren()) {
+                stack.push(child);
             }
         }
-        BlockHeaderChain chain = new BlockHeaderChain();
-        chain.addHeader(header);
-        chainList.add(chain);
-        return true;
     }
 
-    public void removeHash(String hash) {
-        if (chainList.isEmpty()) {
-            return;
+    private void index(BlockHeaderNode node) {
+        hashIndex.put(node.getHash(), node);
+        Set<String> hashSet = heightIndex.get(node.getHeight());
+        if (null == hashSet) {
+            hashSet = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+            heightIndex.put(node.getHeight(), hashSet);
         }
-        List<BlockHeaderChain> tempList = new ArrayList<>(this.chainList);
-        tempList.forEach((BlockHeaderChain chain) -> removeBlock(chain, hash));
+        hashSet.add(node.getHash());
     }
 
-    private void removeBlock(BlockHeaderChain chain, String hashHex) {
-        HeaderDigest hd = chain.getHeaderDigest(hashHex);
-        if (hd == null) {
+    private void unindex(BlockHeaderNode node) {
+        hashIndex.remove(node.getHash());
+        Set<String> hashSet = heightIndex.get(node.getHeight());
+        if (null == hashSet) {
             return;
         }
-        chain.removeHeaderDigest(hashHex);
-        if (chain.size() == 0) {
-            this.chainList.remove(chain);
+        hashSet.remove(node.getHash());
+        if (hashSet.isEmpty()) {
+            heightIndex.remove(node.getHeight());
         }
     }
 
     public List<String> getHashList(long height) {
-        Set<String> set = new HashSet<>();
-        List<BlockHeaderChain> chainList1 = new ArrayList<>(this.chainList);
-        for (BlockHeaderChain chain : chainList1) {
-            HeaderDigest headerDigest = chain.getHeaderDigest(height);
-            if (null != headerDigest) {
-                set.add(headerDigest.getHash());
-            }
+        Set<String> hashSet = heightIndex.get(height);
+        if (null == hashSet) {
+            return new ArrayList<>();
         }
-        return new ArrayList<>(set);
+        return new ArrayList<>(hashSet);
     }
 
     public boolean processing(long height) {
-        if (chainList.isEmpty()) {
-            return false;
-        }
-        List<String> hashList = this.getHashList(height);
-        if (hashList.isEmpty()) {
-            //Log.warn("lost a block:" + height);
-            return false;
-        }
-        int maxSize = 0;
-        int secondMaxSize = 0;
-        for (BlockHeaderChain chain : chainList) {
-            int size = chain.size();
-            if (size > maxSize) {
-                secondMaxSize = maxSize;
-                maxSize = size;
-            } else if (size > secondMaxSize) {
-                secondMaxSize = size;
-            } else if (size == maxSize) {
-                secondMaxSize = size;
+        lock.lock();
+        try {
+            if (tipSet.isEmpty()) {
+                return false;
             }
-        }
-        if (maxSize <= (secondMaxSize + 6)) {
-            return false;
-        }
-
-        Set<String> rightHashSet = new HashSet<>();
-        Set<String> removeHashSet = new HashSet<>();
-        for (int i = chainList.size() - 1; i >= 0; i--) {
-            BlockHeaderChain chain = chainList.get(i);
-            if (chain.size() < maxSize) {
-                removeHashSet.addAll(chain.getHashSet());
-                chainList.remove(i);
-            } else {
-                rightHashSet.addAll(chain.getHashSet());
+            if (!heightIndex.containsKey(height)) {
+                //Log.warn("lost a block:" + height);
+                return false;
             }
-        }
-
-        for (String hash : removeHashSet) {
-            if (!rightHashSet.contains(hash)) {
-                confrimingBlockCacheManager.removeBlock(hash);
+            int maxSize = 0;
+            int secondMaxSize = 0;
+            for (BlockHeaderNode tip : tipSet) {
+                int size = tip.getChainSize();
+                if (size > maxSize) {
+                    secondMaxSize = maxSize;
+                    maxSize = size;
+                } else if (size > secondMaxSize) {
+                    secondMaxSize = size;
+                } else if (size == maxSize) {
+                    secondMaxSize = size;
+                }
+            }
+            if (maxSize <= (secondMaxSize + 6)) {
+                return false;
             }
+            prune(maxSize);
+            return true;
+        } finally {
+            lock.unlock();
         }
-        return true;
     }
 
     public int getHashSize() {
-        Set<String> hashSet = new HashSet<>();
-        for (BlockHeaderChain chain : chainList) {
-            hashSet.addAll(chain.getHashSet());
-        }
-        return hashSet.size();
+        return hashIndex.size();
     }
 
     public int getChainSize() {
-        return chainList.size();
+        return tipSet.size();
     }
 
     public long getMaxHeight() {
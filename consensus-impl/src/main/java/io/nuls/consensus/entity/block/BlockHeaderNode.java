@@ -0,0 +1,128 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2018 nuls.io
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.nuls.consensus.entity.block;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A header in the fork tree, its length counts the headers from the root of its tree to itself
+ *
+ * @author agent
+ * @date 2026/10/18
+ */
+public class BlockHeaderNode {
+    private final String hash;
+    private final long height;
+    private final int length;
+    private BlockHeaderNode parent;
+    private final List<BlockHeaderNode> children = new ArrayList<>(1);
+    private Base base;
+
+    public BlockHeaderNode(String hash, long height, BlockHeaderNode parent) {
+        this.hash = hash;
+        this.height = height;
+        this.parent = parent;
+        if (null == parent) {
+            this.length = 1;
+            this.base = new Base();
+            this.base.setRootCount(1);
+        } else {
+            this.length = parent.length + 1;
+            this.base = parent.base;
+        }
+    }
+
+    /**
+     * the number of headers of the chain ending with this node
+     */
+    public int getChainSize() {
+        return length - base.length;
+    }
+
+    public String getHash() {
+        return hash;
+    }
+
+    public long getHeight() {
+        return height;
+    }
+
+    public int getLength() {
+        return length;
+    }
+
+    public BlockHeaderNode getParent() {
+        return parent;
+    }
+
+    public void setParent(BlockHeaderNode parent) {
+        this.parent = parent;
+    }
+
+    public List<BlockHeaderNode> getChildren() {
+        return children;
+    }
+
+    public void addChild(BlockHeaderNode child) {
+        children.add(child);
+    }
+
+    public void removeChild(BlockHeaderNode child) {
+        children.remove(child);
+    }
+
+    public Base getBase() {
+        return base;
+    }
+
+    public void setBase(Base base) {
+        this.base = base;
+    }
+
+    /**
+     * the length of the removed part of a tree, shared by all nodes of the tree
+     * so removing the root does not touch every node, all roots of a tree have the same length
+     */
+    public static class Base {
+        private int length;
+        private int rootCount;
+
+        public int getLength() {
+            return length;
+        }
+
+        public void setLength(int length) {
+            this.length = length;
+        }
+
+        public int getRootCount() {
+            return rootCount;
+        }
+
+        public void setRootCount(int rootCount) {
+            this.rootCount = rootCount;
+        }
+    }
+}
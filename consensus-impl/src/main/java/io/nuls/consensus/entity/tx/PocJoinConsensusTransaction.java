@@ -34,6 +34,7 @@ import io.nuls.consensus.entity.validator.tx.CreditThresholdValidator;
 import io.nuls.core.constant.TransactionConstant;
 import io.nuls.core.exception.NulsException;
 import io.nuls.core.utils.io.NulsByteBuffer;
+import io.nuls.core.validate.ValidatorManager;
 import io.nuls.ledger.entity.params.CoinTransferData;
 import io.nuls.ledger.entity.tx.LockNulsTransaction;
 
@@ -42,22 +43,21 @@ import io.nuls.ledger.entity.tx.LockNulsTransaction;
  * @date 2017/12/4
  */
 public class PocJoinConsensusTransaction extends LockNulsTransaction<Consensus<Deposit>> {
+
+    static {
+        ValidatorManager.addValidator(PocJoinConsensusTransaction.class, DepositFieldValidator.getInstance());
+        ValidatorManager.addValidator(PocJoinConsensusTransaction.class, AgentExistValidator.getInstance());
+        ValidatorManager.addValidator(PocJoinConsensusTransaction.class, CreditThresholdValidator.getInstance());
+        ValidatorManager.addValidator(PocJoinConsensusTransaction.class, DepositCountValidator.getInstance());
+        ValidatorManager.addValidator(PocJoinConsensusTransaction.class, DepositAmountValidator.getInstance());
+    }
+
     public PocJoinConsensusTransaction() {
         super(TransactionConstant.TX_TYPE_JOIN_CONSENSUS);
-        this.initValidator();
     }
 
     public PocJoinConsensusTransaction(CoinTransferData lockData, String password) throws NulsException {
         super(TransactionConstant.TX_TYPE_JOIN_CONSENSUS, lockData, password);
-        this.initValidator();
-    }
-
-    private void initValidator() {
-        this.registerValidator(DepositFieldValidator.getInstance());
-        this.registerValidator(AgentExistValidator.getInstance());
-        this.registerValidator(CreditThresholdValidator.getInstance());
-        this.registerValidator(DepositCountValidator.getInstance());
-        this.registerValidator(DepositAmountValidator.getInstance());
     }
 
     @Override
@@ -34,6 +34,7 @@ import io.nuls.consensus.entity.validator.tx.RegisterAgentFieldValidator;
 import io.nuls.core.constant.TransactionConstant;
 import io.nuls.core.exception.NulsException;
 import io.nuls.core.utils.io.NulsByteBuffer;
+import io.nuls.core.validate.ValidatorManager;
 import io.nuls.ledger.entity.params.CoinTransferData;
 import io.nuls.ledger.entity.tx.LockNulsTransaction;
 
@@ -43,22 +44,20 @@ import io.nuls.ledger.entity.tx.LockNulsTransaction;
  */
 public class RegisterAgentTransaction extends LockNulsTransaction<Consensus<Agent>> {
 
+    static {
+        ValidatorManager.addValidator(RegisterAgentTransaction.class, new RegisterAgentFieldValidator());
+        ValidatorManager.addValidator(RegisterAgentTransaction.class, new CommissionRateValidator());
+        ValidatorManager.addValidator(RegisterAgentTransaction.class, new AccountCreditValidator());
+        ValidatorManager.addValidator(RegisterAgentTransaction.class, new AgentDepositValidator());
+        ValidatorManager.addValidator(RegisterAgentTransaction.class, new AgentCountValidator());
+    }
+
     public RegisterAgentTransaction() {
         super(TransactionConstant.TX_TYPE_REGISTER_AGENT);
-        this.initValidator();
     }
 
     public RegisterAgentTransaction(CoinTransferData lockData, String password) throws NulsException {
         super(TransactionConstant.TX_TYPE_REGISTER_AGENT, lockData, password);
-        this.initValidator();
-    }
-
-    private void initValidator() {
-        this.registerValidator(new RegisterAgentFieldValidator());
-        this.registerValidator(new CommissionRateValidator());
-        this.registerValidator(new AccountCreditValidator());
-        this.registerValidator(new AgentDepositValidator());
-        this.registerValidator(new AgentCountValidator());
     }
 
     @Override
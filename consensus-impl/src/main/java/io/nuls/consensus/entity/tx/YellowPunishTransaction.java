@@ -29,15 +29,19 @@ import io.nuls.core.chain.entity.Transaction;
 import io.nuls.core.constant.TransactionConstant;
 import io.nuls.core.exception.NulsException;
 import io.nuls.core.utils.io.NulsByteBuffer;
+import io.nuls.core.validate.ValidatorManager;
 
 /**
  * @author Niels
  * @date 2017/12/4
  */
 public class YellowPunishTransaction extends Transaction<YellowPunishData> {
+    static {
+        ValidatorManager.addValidator(YellowPunishTransaction.class, YellowPunishValidator.getInstance());
+    }
+
     public YellowPunishTransaction() {
         super(TransactionConstant.TX_TYPE_YELLOW_PUNISH);
-        this.registerValidator(YellowPunishValidator.getInstance());
     }
 
     @Override
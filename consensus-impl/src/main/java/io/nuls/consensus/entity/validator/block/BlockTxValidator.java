@@ -27,8 +27,10 @@ import io.nuls.core.chain.entity.Block;
 import io.nuls.core.chain.entity.Transaction;
 import io.nuls.core.constant.ErrorCode;
 import io.nuls.core.constant.TransactionConstant;
+import io.nuls.core.context.NulsContext;
 import io.nuls.core.validate.NulsDataValidator;
 import io.nuls.core.validate.ValidateResult;
+import io.nuls.ledger.service.intf.LedgerService;
 
 /**
  * @author Niels
@@ -50,6 +52,10 @@ public class BlockTxValidator implements NulsDataValidator<Block> {
         if (block.getHeader().getTxCount() != block.getTxs().size()) {
             return ValidateResult.getFailedResult("txCount is wrong!");
         }
+        ValidateResult signResult = NulsContext.getServiceBean(LedgerService.class).verifyTxSign(block.getTxs());
+        if (signResult.isFailed()) {
+            return ValidateResult.getFailedResult("there is wrong transaction!msg:" + signResult.getMessage());
+        }
         int count = 0;
         for (Transaction tx : block.getTxs()) {
 
@@ -52,6 +52,22 @@ public class HeaderContinuityValidator implements NulsDataValidator<BlockHeader>
 
     @Override
     public ValidateResult validate(BlockHeader header) {
+        BlockHeader preHeader = null;
+        if (header.getHeight() > 0) {
+            try {
+                preHeader = NulsContext.getServiceBean(BlockService.class).getBlockHeader(header.getHeight() - 1);
+            } catch (NulsException e) {
+                //todo
+                e.printStackTrace();
+            }
+        }
+        return validate(header, preHeader);
+    }
+
+    /**
+     * checks the header against the given previous header, which may not be stored yet
+     */
+    public ValidateResult validate(BlockHeader header, BlockHeader preHeader) {
         ValidateResult result = ValidateResult.getSuccessResult();
         boolean failed = false;
         do {
@@ -59,13 +75,6 @@ public class HeaderContinuityValidator implements NulsDataValidator<BlockHeader>
                 failed = !header.getPreHash().equals(NulsDigestData.EMPTY_HASH);
                 break;
             }
-            BlockHeader preHeader = null;
-            try {
-                preHeader = NulsContext.getServiceBean(BlockService.class).getBlockHeader(header.getHeight() - 1);
-            } catch (NulsException e) {
-                //todo
-                e.printStackTrace();
-            }
             if (null == preHeader) {
                 break;
             }
@@ -21,42 +21,33 @@
  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
  * SOFTWARE.
  */
-package io.nuls.consensus.entity.block;
+package io.nuls.consensus.event;
+
+import io.nuls.consensus.constant.PocConsensusConstant;
+import io.nuls.consensus.entity.BlocksResponse;
+import io.nuls.core.constant.NulsConstant;
+import io.nuls.core.event.BaseEvent;
+import io.nuls.core.event.NoticeData;
+import io.nuls.core.exception.NulsException;
+import io.nuls.core.utils.io.NulsByteBuffer;
 
 /**
- * @author Niels
- * @date 2018/1/13
+ * @author agent
+ * @date 2026/10/18
  */
-public class HeaderDigest {
-    private String hash;
-    private long height;
-
-    public HeaderDigest(String hash, long height) {
-        this.hash = hash;
-        this.height = height;
-    }
-
-    public String getHash() {
-        return hash;
-    }
-
-    public void setHash(String hash) {
-        this.hash = hash;
-    }
+public class BlocksEvent extends BaseEvent<BlocksResponse> {
 
-    public long getHeight() {
-        return height;
+    public BlocksEvent() {
+        super(NulsConstant.MODULE_ID_CONSENSUS, PocConsensusConstant.EVENT_TYPE_BLOCKS);
     }
 
-    public void setHeight(long height) {
-        this.height = height;
+    @Override
+    protected BlocksResponse parseEventBody(NulsByteBuffer byteBuffer) throws NulsException {
+        return byteBuffer.readNulsData(new BlocksResponse());
     }
 
     @Override
-    public boolean equals(Object obj) {
-        if (!(obj instanceof HeaderDigest)) {
-            return false;
-        }
-        return this.getHeight() == ((HeaderDigest) obj).getHeight() && this.getHash().equals(((HeaderDigest) obj).getHash());
+    public NoticeData getNotice() {
+        return null;
     }
 }
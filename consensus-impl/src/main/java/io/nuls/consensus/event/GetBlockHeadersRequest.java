@@ -0,0 +1,71 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2018 nuls.io
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.nuls.consensus.event;
+
+import io.nuls.consensus.constant.PocConsensusConstant;
+import io.nuls.consensus.entity.GetBlockParam;
+import io.nuls.core.constant.NulsConstant;
+import io.nuls.core.event.BaseEvent;
+import io.nuls.core.event.NoticeData;
+import io.nuls.core.exception.NulsException;
+import io.nuls.core.utils.io.NulsByteBuffer;
+
+/**
+ * get the block headers of a height range.
+ *
+ * @author agent
+ * @date 2026/10/18
+ */
+public class GetBlockHeadersRequest extends BaseEvent<GetBlockParam> {
+
+    public GetBlockHeadersRequest() {
+        super(NulsConstant.MODULE_ID_CONSENSUS, PocConsensusConstant.EVENT_TYPE_GET_BLOCK_HEADERS);
+    }
+
+    public GetBlockHeadersRequest(long start, long end) {
+        this();
+        GetBlockParam param = new GetBlockParam();
+        param.setStart(start);
+        param.setEnd(end);
+        this.setEventBody(param);
+    }
+
+    @Override
+    protected GetBlockParam parseEventBody(NulsByteBuffer byteBuffer) throws NulsException {
+        return byteBuffer.readNulsData(new GetBlockParam());
+    }
+
+    @Override
+    public NoticeData getNotice() {
+        return null;
+    }
+
+    public long getStart() {
+        return this.getEventBody().getStart();
+    }
+
+    public long getEnd() {
+        return this.getEventBody().getEnd();
+    }
+}
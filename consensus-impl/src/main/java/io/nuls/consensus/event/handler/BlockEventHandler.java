@@ -52,6 +52,10 @@ public class BlockEventHandler extends AbstractEventHandler<BlockEvent> {
             Log.warn("recieved a null blockEvent form "+fromId);
             return;
         }
+        this.receiveBlock(block, fromId);
+    }
+
+    void receiveBlock(Block block, String fromId) {
         ValidateResult result = block.verify();
         if (result.isFailed()&&result.getErrorCode()!= ErrorCode.ORPHAN_TX) {
             if (result.getLevel() == SeverityLevelEnum.FLAGRANT_FOUL) {
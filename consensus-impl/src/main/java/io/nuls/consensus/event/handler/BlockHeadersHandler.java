@@ -21,41 +21,23 @@
  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
  * SOFTWARE.
  */
-package io.nuls.consensus.entity;
+package io.nuls.consensus.event.handler;
 
-import java.util.List;
+import io.nuls.consensus.event.BlockHeadersEvent;
+import io.nuls.consensus.utils.BlockHeaderDownloadUtils;
+import io.nuls.event.bus.handler.AbstractEventHandler;
 
 /**
- * @author Niels
- * @date 2018/1/16
+ * @author agent
+ * @date 2026/10/18
  */
-public class DownloadRound {
-
-    private long start;
-    private long end;
-    private List<String> nodeIdList;
-
-    public long getStart() {
-        return start;
-    }
-
-    public void setStart(long start) {
-        this.start = start;
-    }
-
-    public long getEnd() {
-        return end;
-    }
-
-    public void setEnd(long end) {
-        this.end = end;
-    }
-
-    public void setNodeIdList(List<String> nodeIdList) {
-        this.nodeIdList = nodeIdList;
-    }
-
-    public List<String> getNodeIdList() {
-        return nodeIdList;
+public class BlockHeadersHandler extends AbstractEventHandler<BlockHeadersEvent> {
+
+    @Override
+    public void onEvent(BlockHeadersEvent event, String fromId) {
+        if (null == event.getEventBody()) {
+            return;
+        }
+        BlockHeaderDownloadUtils.getInstance().downloadedHeaders(fromId, event.getEventBody().getHeaderList());
     }
 }
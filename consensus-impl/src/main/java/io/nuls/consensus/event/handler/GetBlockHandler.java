@@ -23,7 +23,9 @@
  */
 package io.nuls.consensus.event.handler;
 
+import io.nuls.consensus.entity.BlocksResponse;
 import io.nuls.consensus.event.BlockEvent;
+import io.nuls.consensus.event.BlocksEvent;
 import io.nuls.consensus.event.GetBlockRequest;
 import io.nuls.consensus.service.intf.BlockService;
 import io.nuls.core.chain.entity.Block;
@@ -32,6 +34,7 @@ import io.nuls.core.exception.NulsException;
 import io.nuls.event.bus.handler.AbstractEventHandler;
 import io.nuls.event.bus.service.intf.EventBroadcaster;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -40,11 +43,21 @@ import java.util.List;
  */
 public class GetBlockHandler extends AbstractEventHandler<GetBlockRequest> {
 
+    private static final int READ_BLOCKS_PER_TIME = 100;
+    /**
+     * unit:byte
+     */
+    private static final int MAX_BATCH_SIZE = 1024 * 1024;
+
     private BlockService blockService = NulsContext.getServiceBean(BlockService.class);
     private EventBroadcaster eventBroadcaster = NulsContext.getServiceBean(EventBroadcaster.class);
 
     @Override
     public void onEvent(GetBlockRequest event, String fromId) throws NulsException {
+        if (event.isBatch()) {
+            this.sendBatches(event.getStart(), event.getEnd(), fromId);
+            return;
+        }
         List<Block> blockList = blockService.getBlockList(event.getStart(), event.getEnd());
         for (Block block : blockList) {
             if (null == block) {
@@ -56,4 +69,42 @@ public class GetBlockHandler extends AbstractEventHandler<GetBlockRequest> {
         }
     }
 
+    /**
+     * reads the range from storage in bulk and packs it into messages of at most MAX_BATCH_SIZE,
+     * every message is written before the next one is built so a slow peer slows down the reads
+     */
+    private void sendBatches(long start, long end, String fromId) throws NulsException {
+        List<Block> batch = new ArrayList<>();
+        int batchSize = 0;
+        for (long height = start; height <= end; height += READ_BLOCKS_PER_TIME) {
+            List<Block> blockList = blockService.getBlockList(height, Math.min(height + READ_BLOCKS_PER_TIME - 1, end));
+            for (Block block : blockList) {
+                if (null == block) {
+                    continue;
+                }
+                int size = block.size();
+                if (!batch.isEmpty() && batchSize + size > MAX_BATCH_SIZE) {
+                    if (!sendBatch(batch, fromId)) {
+                        return;
+                    }
+                    batch = new ArrayList<>();
+                    batchSize = 0;
+                }
+                batch.add(block);
+                batchSize += size;
+            }
+        }
+        if (!batch.isEmpty()) {
+            sendBatch(batch, fromId);
+        }
+    }
+
+    private boolean sendBatch(List<Block> blockList, String fromId) {
+        BlocksResponse response = new BlocksResponse();
+        response.setBlockList(blockList);
+        BlocksEvent blocksEvent = new BlocksEvent();
+        blocksEvent.setEventBody(response);
+        return eventBroadcaster.sendToNode(blocksEvent, fromId);
+    }
+
 }
@@ -0,0 +1,66 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2018 nuls.io
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.nuls.consensus.event.handler;
+
+import io.nuls.consensus.entity.BlockHeadersResponse;
+import io.nuls.consensus.event.BlockHeadersEvent;
+import io.nuls.consensus.event.GetBlockHeadersRequest;
+import io.nuls.consensus.service.intf.BlockService;
+import io.nuls.core.chain.entity.BlockHeader;
+import io.nuls.core.context.NulsContext;
+import io.nuls.core.exception.NulsException;
+import io.nuls.event.bus.handler.AbstractEventHandler;
+import io.nuls.event.bus.service.intf.EventBroadcaster;
+
+import java.util.List;
+
+/**
+ * @author agent
+ * @date 2026/10/18
+ */
+public class GetBlockHeadersHandler extends AbstractEventHandler<GetBlockHeadersRequest> {
+
+    private static final int MAX_HEADERS_PER_REQUEST = 1000;
+
+    private BlockService blockService = NulsContext.getServiceBean(BlockService.class);
+    private EventBroadcaster eventBroadcaster = NulsContext.getServiceBean(EventBroadcaster.class);
+
+    @Override
+    public void onEvent(GetBlockHeadersRequest event, String fromId) throws NulsException {
+        long start = event.getStart();
+        long end = Math.min(event.getEnd(), start + MAX_HEADERS_PER_REQUEST - 1);
+        if (start < 0 || end < start || end > NulsContext.getInstance().getBestBlock().getHeader().getHeight()) {
+            return;
+        }
+        List<BlockHeader> headerList = blockService.getBlockHeaderList(start, end);
+        if (headerList.isEmpty()) {
+            return;
+        }
+        BlockHeadersResponse response = new BlockHeadersResponse();
+        response.setHeaderList(headerList);
+        BlockHeadersEvent headersEvent = new BlockHeadersEvent();
+        headersEvent.setEventBody(response);
+        eventBroadcaster.sendToNode(headersEvent, fromId);
+    }
+}
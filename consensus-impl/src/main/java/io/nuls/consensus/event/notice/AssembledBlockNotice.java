@@ -27,7 +27,6 @@
 package io.nuls.consensus.event.notice;
 
 import io.nuls.consensus.constant.PocConsensusConstant;
-import io.nuls.consensus.entity.block.BlockHeaderChain;
 import io.nuls.consensus.entity.tx.RegisterAgentTransaction;
 import io.nuls.core.chain.entity.BlockHeader;
 import io.nuls.core.constant.ErrorCode;
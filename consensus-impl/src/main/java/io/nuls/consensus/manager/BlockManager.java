@@ -30,6 +30,7 @@ import io.nuls.consensus.cache.manager.block.ConfrimingBlockCacheManager;
 import io.nuls.consensus.cache.manager.block.BlockCacheBuffer;
 import io.nuls.consensus.cache.manager.tx.ConfirmingTxCacheManager;
 import io.nuls.consensus.cache.manager.tx.ReceivedTxCacheManager;
+import io.nuls.consensus.constant.PocConsensusConstant;
 import io.nuls.consensus.entity.GetBlockParam;
 import io.nuls.consensus.entity.block.BifurcateProcessor;
 import io.nuls.consensus.event.GetBlockHeaderEvent;
@@ -231,6 +232,13 @@ public class BlockManager {
         return this.bifurcateProcessor.processing(height);
     }
 
+    /**
+     * the highest height with enough confirmations to be persisted
+     */
+    public long getConfirmedHeight() {
+        return this.bifurcateProcessor.getMaxHeight() - PocConsensusConstant.CONFIRM_BLOCK_COUNT;
+    }
+
     public void setStoredHeight(long storedHeight) {
         this.storedHeight = storedHeight;
     }
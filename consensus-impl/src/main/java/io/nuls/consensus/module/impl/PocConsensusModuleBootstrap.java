@@ -24,6 +24,7 @@
 package io.nuls.consensus.module.impl;
 
 import io.nuls.consensus.constant.ConsensusStatusEnum;
+import io.nuls.consensus.constant.PocConsensusConstant;
 import io.nuls.consensus.entity.ConsensusStatusInfo;
 import io.nuls.consensus.entity.tx.*;
 import io.nuls.consensus.entity.validator.PocBlockValidatorManager;
@@ -37,16 +38,19 @@ import io.nuls.consensus.service.impl.PocConsensusServiceImpl;
 import io.nuls.consensus.service.intf.BlockService;
 import io.nuls.consensus.service.tx.*;
 import io.nuls.core.constant.ModuleStatusEnum;
+import io.nuls.core.constant.NulsConstant;
 import io.nuls.core.constant.TransactionConstant;
 import io.nuls.core.context.NulsContext;
 import io.nuls.core.event.EventManager;
 import io.nuls.core.thread.BaseThread;
+import io.nuls.core.thread.manager.NulsThreadFactory;
 import io.nuls.core.thread.manager.TaskManager;
 import io.nuls.core.utils.log.Log;
 import io.nuls.event.bus.service.intf.EventBusService;
 import io.nuls.ledger.event.TransactionEvent;
 
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 /**
  * @author Niels
@@ -98,7 +102,12 @@ public class PocConsensusModuleBootstrap extends AbstractConsensusModule {
         BlockHeaderHandler blockHeaderHandler = new BlockHeaderHandler();
         eventBusService.subscribeEvent(BlockHeaderEvent.class, blockHeaderHandler);
 
+        //block and header ranges are read from the db and sent with synchronous writes, they share a pool
+        //so serving other nodes' sync never takes all the dispatch threads
+        ExecutorService blockServePool = TaskManager.createThreadPool(PocConsensusConstant.BLOCK_SERVE_THREAD_COUNT, 0,
+                new NulsThreadFactory(NulsConstant.MODULE_ID_CONSENSUS, PocConsensusConstant.BLOCK_SERVE_POOL_NAME));
         GetBlockHandler getBlockHandler = new GetBlockHandler();
+        getBlockHandler.setExecutor(blockServePool);
         eventBusService.subscribeEvent(GetBlockRequest.class, getBlockHandler);
 
         GetTxGroupHandler getTxGroupHandler = new GetTxGroupHandler();
@@ -114,10 +123,21 @@ public class PocConsensusModuleBootstrap extends AbstractConsensusModule {
         eventBusService.subscribeEvent(TransactionEvent.class, newTxEventHandler);
 
 
-        eventBusService.subscribeEvent(BlocksHashEvent.class, new BlocksHashHandler());
+        //hands the response to the waiting request, nothing to wait on
+        BlocksHashHandler blocksHashHandler = new BlocksHashHandler();
+        blocksHashHandler.setDirectDispatch(true);
+        eventBusService.subscribeEvent(BlocksHashEvent.class, blocksHashHandler);
         eventBusService.subscribeEvent(GetBlocksHashRequest.class, new GetBlocksHashHandler());
         eventBusService.subscribeEvent(GetSmallBlockRequest.class, new GetSmallBlockHandler());
         eventBusService.subscribeEvent(SmallBlockEvent.class, new SmallBlockHandler());
+        GetBlockHeadersHandler getBlockHeadersHandler = new GetBlockHeadersHandler();
+        getBlockHeadersHandler.setExecutor(blockServePool);
+        eventBusService.subscribeEvent(GetBlockHeadersRequest.class, getBlockHeadersHandler);
+        //hands the headers to the waiting download, nothing to wait on
+        BlockHeadersHandler blockHeadersHandler = new BlockHeadersHandler();
+        blockHeadersHandler.setDirectDispatch(true);
+        eventBusService.subscribeEvent(BlockHeadersEvent.class, blockHeadersHandler);
+        eventBusService.subscribeEvent(BlocksEvent.class, new BlocksEventHandler());
     }
 
 
@@ -42,6 +42,7 @@ import io.nuls.db.transactional.annotation.DbSession;
 import io.nuls.ledger.service.intf.LedgerService;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -148,6 +149,37 @@ public class BlockServiceImpl implements BlockService {
     @Override
     @DbSession
     public boolean saveBlock(Block block) throws IOException {
+        this.commitBlock(block);
+        ledgerService.saveTxList(block.getTxs());
+        blockStorageService.save(block);
+        return true;
+    }
+
+    @Override
+    @DbSession
+    public boolean saveBlockList(List<Block> blockList) throws IOException {
+        List<Transaction> txList = new ArrayList<>();
+        int committed = 0;
+        try {
+            for (Block block : blockList) {
+                this.commitBlock(block);
+                committed++;
+                txList.addAll(block.getTxs());
+            }
+            ledgerService.saveTxList(txList);
+            blockStorageService.save(blockList);
+        } catch (RuntimeException | IOException e) {
+            //the db transaction is rolled back, the ledger caches have to follow
+            for (int i = committed - 1; i >= 0; i--) {
+                List<Transaction> txs = blockList.get(i).getTxs();
+                rollback(txs, txs.size());
+            }
+            throw e;
+        }
+        return true;
+    }
+
+    private void commitBlock(Block block) {
         block.verifyWithException();
         boolean b = false;
         for (int x = 0; x < block.getHeader().getTxCount(); x++) {
@@ -180,9 +212,6 @@ public class BlockServiceImpl implements BlockService {
                 }
             }
         }
-        ledgerService.saveTxList(block.getTxs());
-        blockStorageService.save(block);
-        return true;
     }
 
 
@@ -200,6 +229,11 @@ public class BlockServiceImpl implements BlockService {
     }
 
 
+    @Override
+    public List<BlockHeader> getBlockHeaderList(long startHeight, long endHeight) throws NulsException {
+        return blockStorageService.getBlockHeaderList(startHeight, endHeight);
+    }
+
     @Override
     public List<BlockHeader> getBlockHeaderList(long startHeight, long endHeight, long split) {
         return blockStorageService.getBlockHeaderList(startHeight, endHeight, split);
@@ -193,11 +193,45 @@ public class BlockStorageService {
         headerDao.save(ConsensusTool.toPojo(header));
     }
 
+    public void save(List<Block> blockList) {
+        List<BlockHeaderPo> poList = new ArrayList<>();
+        for (Block block : blockList) {
+            BlockHeader header = block.getHeader();
+            header.setSize(block.size());
+            poList.add(ConsensusTool.toPojo(header));
+        }
+        headerDao.save(poList);
+    }
+
     public void delete(String hash) {
         blockCacheManager.removeBlock(hash);
         headerDao.delete(hash);
     }
 
+    /**
+     * the contiguous headers from the start height on, in height order
+     */
+    public List<BlockHeader> getBlockHeaderList(long startHeight, long endHeight) throws NulsException {
+        List<BlockHeaderPo> poList = this.headerDao.getHeaderList(startHeight, endHeight);
+        Map<Long, BlockHeader> headerMap = new HashMap<>();
+        for (BlockHeaderPo po : poList) {
+            BlockHeader header = ConsensusTool.fromPojo(po);
+            headerMap.put(header.getHeight(), header);
+        }
+        List<BlockHeader> headerList = new ArrayList<>();
+        for (long i = startHeight; i <= endHeight; i++) {
+            BlockHeader header = headerMap.get(i);
+            if (null == header) {
+                header = blockCacheManager.getBlockHeader(i);
+            }
+            if (null == header) {
+                break;
+            }
+            headerList.add(header);
+        }
+        return headerList;
+    }
+
     public List<BlockHeader> getBlockHeaderList(long startHeight, long endHeight, long split) {
         List<BlockHeaderPo> strList = this.headerDao.getHashList(startHeight, endHeight, split);
         Map<Long, BlockHeader> headerMap = new HashMap<>();
@@ -43,12 +43,21 @@ import java.util.List;
  */
 public class BlockPersistenceThread implements Runnable {
     public static final String THREAD_NAME = "block-persistence-thread";
+    private static final int PERSISTENCE_BLOCKS_PER_TIME = 20;
+    /**
+     * unit:byte
+     */
+    private static final int PERSISTENCE_MAX_SIZE = 2 * 1024 * 1024;
     private static final BlockPersistenceThread INSTANCE = new BlockPersistenceThread();
     private BlockManager blockManager = BlockManager.getInstance();
     private BlockService blockService = NulsContext.getServiceBean(BlockService.class);
     private ConfirmingTxCacheManager txCacheManager = ConfirmingTxCacheManager.getInstance();
     private NetworkService networkService = NulsContext.getServiceBean(NetworkService.class);
     private boolean running;
+    /**
+     * after a failed batch the heights are saved one by one until the failing block is saved
+     */
+    private boolean batchFailed;
 
     private BlockPersistenceThread() {
     }
@@ -110,13 +119,49 @@ public class BlockPersistenceThread implements Runnable {
             blockManager.removeBlock(block.getHeader().getHash().getDigestHex());
             return;
         }
-        boolean isSuccess = blockService.saveBlock(block);
+        List<Block> blockList = this.getBlockList(block);
+        boolean isSuccess;
+        try {
+            isSuccess = blockService.saveBlockList(blockList);
+        } catch (RuntimeException | IOException e) {
+            batchFailed = blockList.size() > 1;
+            throw e;
+        }
         if (isSuccess) {
-            blockManager.removeBlock(block.getHeader().getHash().getDigestHex());
+            batchFailed = false;
+            for (Block saved : blockList) {
+                blockManager.removeBlock(saved.getHeader().getHash().getDigestHex());
+                txCacheManager.removeTxList(saved.getTxHashList());
+            }
+            blockManager.setStoredHeight(blockList.get(blockList.size() - 1).getHeader().getHeight());
+        }
+    }
 
-            blockManager.setStoredHeight(height);
-            txCacheManager.removeTxList(block.getTxHashList());
+    /**
+     * the block and the confirmed blocks following it, saved together in one db transaction
+     */
+    private List<Block> getBlockList(Block first) {
+        List<Block> blockList = new ArrayList<>();
+        blockList.add(first);
+        if (batchFailed) {
+            return blockList;
+        }
+        long end = Math.min(first.getHeader().getHeight() + PERSISTENCE_BLOCKS_PER_TIME - 1, blockManager.getConfirmedHeight());
+        int size = first.size();
+        Block last = first;
+        for (long height = first.getHeader().getHeight() + 1; height <= end; height++) {
+            Block block = blockManager.getBlock(height);
+            if (null == block || block.getTxs().isEmpty() || !last.getHeader().getHash().equals(block.getHeader().getPreHash())) {
+                break;
+            }
+            size += block.size();
+            if (size > PERSISTENCE_MAX_SIZE) {
+                break;
+            }
+            blockList.add(block);
+            last = block;
         }
+        return blockList;
     }
 
 }
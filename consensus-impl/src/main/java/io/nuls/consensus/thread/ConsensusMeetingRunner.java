@@ -284,6 +284,8 @@ public class ConsensusMeetingRunner implements Runnable {
         Block bestBlock = context.getBestBlock();
         List<Transaction> txList = txCacheManager.getTxList();
         txList.sort(TxTimeComparator.getInstance());
+        //check the signatures in parallel first, the failed ones are dropped by tx.verify() below
+        ledgerService.verifyTxSign(txList);
         BlockData bd = new BlockData();
         bd.setHeight(bestBlock.getHeader().getHeight() + 1);
         bd.setPreHash(bestBlock.getHeader().getHash());
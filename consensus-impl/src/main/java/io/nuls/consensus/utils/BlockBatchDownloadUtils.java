@@ -25,28 +25,35 @@ package io.nuls.consensus.utils;
 
 import io.nuls.consensus.cache.manager.tx.ConfirmingTxCacheManager;
 import io.nuls.consensus.cache.manager.tx.ReceivedTxCacheManager;
-import io.nuls.consensus.entity.DownloadRound;
+import io.nuls.consensus.constant.PocConsensusConstant;
 import io.nuls.consensus.entity.NodeDownloadingStatus;
 import io.nuls.consensus.event.GetBlockRequest;
 import io.nuls.consensus.manager.BlockManager;
 import io.nuls.consensus.service.intf.BlockService;
 import io.nuls.core.chain.entity.Block;
+import io.nuls.core.chain.entity.BlockHeader;
 import io.nuls.core.chain.entity.NulsDigestData;
-import io.nuls.core.chain.entity.Result;
 import io.nuls.core.constant.ErrorCode;
 import io.nuls.core.context.NulsContext;
 import io.nuls.core.utils.date.TimeService;
 import io.nuls.core.utils.log.Log;
-import io.nuls.core.utils.queue.service.impl.QueueService;
-import io.nuls.core.utils.str.StringUtils;
 import io.nuls.core.validate.ValidateResult;
 import io.nuls.event.bus.service.intf.EventBroadcaster;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
 /**
+ * Keeps a sliding window of height ranges in flight across nodes, every node gets its next range as soon as
+ * its last one is complete, stalled ranges are handed to other nodes and blocks are added in height order
+ * as soon as they are contiguous, in headers-first mode the header chain is verified before any body is
+ * requested and every body has to match its verified header
+ *
  * @author Niels
  * @date 2017/12/11
  */
@@ -55,36 +62,55 @@ public class BlockBatchDownloadUtils {
     private static final int DOWNLOAD_NODE_COUNT = 10;
     private static final int DOWNLOAD_BLOCKS_PER_TIME = 100;
     /**
-     * todo unit:ms
+     * how far requested ranges may run ahead of the next block to add
+     */
+    private static final int DOWNLOAD_WINDOW_BLOCKS = DOWNLOAD_BLOCKS_PER_TIME * DOWNLOAD_NODE_COUNT * 2;
+    /**
+     * unit:ms
      */
     private static final long DOWNLOAD_IDLE_TIME_OUT = 20000;
+    private static final long CHECK_INTERVAL = 1000;
 
     private static final BlockBatchDownloadUtils INSTANCE = new BlockBatchDownloadUtils();
     private EventBroadcaster eventBroadcaster = NulsContext.getServiceBean(EventBroadcaster.class);
-    private QueueService<String> queueService = new QueueService<>();
     private BlockManager blockManager = BlockManager.getInstance();
     private BlockService blockService = NulsContext.getServiceBean(BlockService.class);
 
-
     private ReceivedTxCacheManager receivedTxCacheManager = ReceivedTxCacheManager.getInstance();
     private ConfirmingTxCacheManager confirmingTxCacheManager = ConfirmingTxCacheManager.getInstance();
 
-    private String queueId = StringUtils.getNewUUID();
+    /**
+     * the range each node is downloading, a node without an entry is idle
+     */
+    private Map<String, NodeDownloadingStatus> nodeStatusMap = new ConcurrentHashMap<>();
 
-    private Map<String, NodeDownloadingStatus> nodeStatusMap = new HashMap<>();
+    /**
+     * all ranges not added yet by start height, a range without node is waiting for one
+     */
+    private TreeMap<Long, NodeDownloadingStatus> rangeMap = new TreeMap<>();
 
-    private Map<Long, Block> blockMap = Collections.synchronizedMap(new HashMap<>());
+    /**
+     * the downloaded blocks not added yet by height, with the node each one came from
+     */
+    private Map<Long, DownloadedBlock> blockMap = new ConcurrentHashMap<>();
 
-    private boolean finished = true;
-    private List<DownloadRound> roundList = new ArrayList<>();
-    private DownloadRound currentRound;
+    private volatile boolean finished = true;
     private List<String> nodeIdList;
     private BlockInfo blocksHash;
+    /**
+     * the verified header chain, null when bodies are only checked at the split heights
+     */
+    private Map<Long, BlockHeader> headerMap;
+    private long startHeight;
+    private volatile long nextHeight;
+    private volatile long endHeight;
+    private NulsDigestData lastHash;
     private long lastOperateTime;
 
-    private Lock lock = new ReentrantLock();
+    private final Lock lock = new ReentrantLock();
+    private final Condition progress = lock.newCondition();
 
-    private boolean working = false;
+    private final AtomicBoolean working = new AtomicBoolean(false);
 
     private BlockBatchDownloadUtils() {
     }
@@ -93,294 +119,288 @@ public class BlockBatchDownloadUtils {
         return INSTANCE;
     }
 
-    private void init(List<String> nodeIdList) {
-        this.nodeIdList = nodeIdList;
-        if (!this.queueService.exist(queueId)) {
-            this.queueService.createQueue(queueId, (long) nodeIdList.size(), false);
-        }
-        for (String nodeId : nodeIdList) {
-            this.queueService.offer(queueId, nodeId);
-        }
+    private void init(List<String> nodeIdList, long startHeight, long endHeight) {
+        this.nodeIdList = new ArrayList<>(nodeIdList);
+        Collections.shuffle(this.nodeIdList);
+        this.startHeight = startHeight;
+        this.nextHeight = startHeight;
+        this.endHeight = endHeight;
+        this.lastHash = null;
+        this.headerMap = null;
         nodeStatusMap.clear();
+        rangeMap.clear();
         blockMap.clear();
+        for (long start = startHeight; start <= endHeight; start += DOWNLOAD_BLOCKS_PER_TIME) {
+            rangeMap.put(start, newRange(start, Math.min(start + DOWNLOAD_BLOCKS_PER_TIME - 1, endHeight)));
+        }
     }
 
     public void request(List<String> nodeIdList, long startHeight, long endHeight) throws InterruptedException {
-        if (nodeIdList == null || nodeIdList.isEmpty()) {
+        if (nodeIdList == null || nodeIdList.isEmpty() || startHeight > endHeight) {
+            return;
+        }
+        if (!working.compareAndSet(false, true)) {
             return;
         }
-        lock.lock();
         try {
-            if (working) {
+            finished = false;
+            this.init(nodeIdList, startHeight, endHeight);
+            blocksHash = DistributedBlockInfoRequestUtils.getInstance().request(startHeight, endHeight, DOWNLOAD_BLOCKS_PER_TIME, this.nodeIdList);
+            if (null == blocksHash) {
                 return;
             }
-            this.lastOperateTime = TimeService.currentTimeMillis();
-            working = true;
-            this.init(nodeIdList);
-            blocksHash = DistributedBlockInfoRequestUtils.getInstance().request(startHeight, endHeight, DOWNLOAD_BLOCKS_PER_TIME,nodeIdList);
-            request(startHeight, endHeight);
-            while (working) {
-                if ((lastOperateTime + DOWNLOAD_IDLE_TIME_OUT) < TimeService.currentTimeMillis()) {
-                    verify();
+            if (isHeadersFirst()) {
+                headerMap = BlockHeaderDownloadUtils.getInstance().request(this.nodeIdList, startHeight, endHeight, DOWNLOAD_BLOCKS_PER_TIME, blocksHash);
+                if (null == headerMap) {
+                    Log.warn("headers of " + startHeight + "-" + endHeight + " not verified, download blocks directly");
                 }
-                if ((TimeService.currentTimeMillis() - lastOperateTime) >= 5000) {
-                    working = false;
+                if (this.nodeIdList.isEmpty()) {
                     return;
                 }
-                Thread.sleep(100L);
             }
+            this.lastOperateTime = TimeService.currentTimeMillis();
+            while (nextHeight <= endHeight) {
+                addContiguousBlocks();
+                if (nextHeight > endHeight) {
+                    break;
+                }
+                checkRanges();
+                if (this.nodeIdList.isEmpty()) {
+                    Log.warn("no node left to download blocks from, stop at:" + nextHeight);
+                    break;
+                }
+                if ((TimeService.currentTimeMillis() - lastOperateTime) > DOWNLOAD_IDLE_TIME_OUT * 3) {
+                    Log.warn("block download makes no progress, stop at:" + nextHeight);
+                    break;
+                }
+                fillWindow();
+                waitProgress();
+            }
+            finished = nextHeight > endHeight;
         } catch (Exception e) {
-            Log.error(e.getMessage());
-            working = false;
-            return;
+            Log.error(e);
         } finally {
-            lock.unlock();
+            nodeStatusMap.clear();
+            rangeMap.clear();
+            blockMap.clear();
+            headerMap = null;
+            working.set(false);
         }
     }
 
-    private void request(long startHeight, long endHeight) throws InterruptedException {
-        finished = false;
-        roundList.clear();
-        long i = startHeight;
-        while (true) {
-            long start = i;
-            int nodeCount = DOWNLOAD_NODE_COUNT;
-            if (this.nodeIdList.size() < DOWNLOAD_NODE_COUNT) {
-                nodeCount = nodeIdList.size();
-            }
-            long end = i + DOWNLOAD_BLOCKS_PER_TIME * nodeCount - 1;
-            if (end > endHeight) {
-                end = endHeight;
-            }
-            DownloadRound round = new DownloadRound();
-            round.setEnd(end);
-            round.setStart(start);
-            if (i == startHeight) {
-                currentRound = round;
-                startDownload();
-            } else {
-                roundList.add(round);
-            }
-            i = end + 1;
-            if (i >= endHeight) {
-                break;
+    /**
+     * only the node the height is assigned to may deliver it, a block from a dropped node is refused
+     */
+    public boolean downloadedBlock(String nodeId, Block block) {
+        if (!working.get()) {
+            return false;
+        }
+        long height = block.getHeader().getHeight();
+        NodeDownloadingStatus status = nodeStatusMap.get(nodeId);
+        if (null == status || !status.containsHeight(height)) {
+            return false;
+        }
+        status.downloaded(height);
+        status.setUpdateTime(TimeService.currentTimeMillis());
+        if (height < nextHeight || height > endHeight) {
+            return true;
+        }
+        boolean wake = status.finished() || height == nextHeight;
+        //the assigned node replaces a block left by a node the range was taken from
+        blockMap.put(height, new DownloadedBlock(block, nodeId));
+        if (wake) {
+            lock.lock();
+            try {
+                progress.signal();
+            } finally {
+                lock.unlock();
             }
         }
-
+        return true;
     }
 
-    private void startDownload() {
+    private void waitProgress() throws InterruptedException {
+        lock.lock();
         try {
-            Set<String> nodeSet = new HashSet<>();
-            if (this.nodeIdList.size() <= DOWNLOAD_NODE_COUNT) {
-                nodeSet.addAll(this.nodeIdList);
-            } else {
-                Random random = new Random();
-                while (true) {
-                    if (nodeSet.size() >= DOWNLOAD_NODE_COUNT) {
-                        break;
-                    }
-                    int index = random.nextInt(nodeIdList.size());
-                    nodeSet.add(this.nodeIdList.get(index));
-                }
+            if (!blockMap.containsKey(nextHeight)) {
+                progress.await(CHECK_INTERVAL, TimeUnit.MILLISECONDS);
             }
-            List<String> roundNodeList = new ArrayList<>(nodeSet);
-            currentRound.setNodeIdList(roundNodeList);
-            long end = 0;
-            for (int i = 0; end < currentRound.getEnd(); i++) {
-                long start = currentRound.getStart() + i * DOWNLOAD_BLOCKS_PER_TIME;
-                end = start + DOWNLOAD_BLOCKS_PER_TIME - 1;
-                if (end > currentRound.getEnd()) {
-                    end = currentRound.getEnd();
-                }
-                String nodeId = roundNodeList.get(i);
-                this.sendRequest(start, end, nodeId);
-            }
-        } catch (Exception e) {
-            Log.error(e);
+        } finally {
+            lock.unlock();
         }
     }
 
-    private void sendRequest(long start, long end, String nodeId) {
-        NodeDownloadingStatus status = new NodeDownloadingStatus();
-        status.setStart(start);
-        status.setEnd(end);
-        status.setNodeId(nodeId);
-        this.eventBroadcaster.sendToNode(new GetBlockRequest(start, end), nodeId);
-        status.setUpdateTime(System.currentTimeMillis());
-        nodeStatusMap.put(nodeId, status);
-        Log.info("download block :" + start + "-" + end + ",from : " + nodeId);
+    private void addContiguousBlocks() {
+        while (nextHeight <= endHeight) {
+            DownloadedBlock downloaded = blockMap.get(nextHeight);
+            if (null == downloaded) {
+                return;
+            }
+            Block block = downloaded.block;
+            if (!checkAndAdd(block)) {
+                failedExecute(nextHeight, downloaded.nodeId);
+                return;
+            }
+            blockMap.remove(nextHeight);
+            lastHash = block.getHeader().getHash();
+            lastOperateTime = TimeService.currentTimeMillis();
+            nextHeight++;
+            Map.Entry<Long, NodeDownloadingStatus> first = rangeMap.firstEntry();
+            if (null != first && first.getValue().getEnd() < nextHeight) {
+                rangeMap.pollFirstEntry();
+            }
+        }
     }
 
-
-    public boolean downloadedBlock(String nodeId, Block block) {
-        try {
-            NodeDownloadingStatus status = nodeStatusMap.get(nodeId);
-            if (null == status) {
+    private boolean checkAndAdd(Block block) {
+        long height = block.getHeader().getHeight();
+        if (null != headerMap) {
+            BlockHeader header = headerMap.get(height);
+            if (null == header || !header.getHash().equals(block.getHeader().getHash())) {
+                Log.info("block does not match the verified header,height:" + height);
                 return false;
             }
-            this.lastOperateTime = TimeService.currentTimeMillis();
-            if (!status.containsHeight(block.getHeader().getHeight())) {
+        } else if ((height - startHeight) % DOWNLOAD_BLOCKS_PER_TIME == 0) {
+            NulsDigestData mustHash = blocksHash.getHash(height);
+            NulsDigestData hash = block.getHeader().getHash();
+            if (null == hash || null == mustHash || !mustHash.equals(hash)) {
+                Log.info("hash wrong!,height:" + height);
                 return false;
             }
-            blockMap.put(block.getHeader().getHeight(), block);
-            status.downloaded(block.getHeader().getHeight());
-            status.setUpdateTime(TimeService.currentTimeMillis());
-            if (status.finished()) {
-                this.queueService.offer(queueId, nodeId);
+        }
+        NulsDigestData preHash = block.getHeader().getPreHash();
+        if (null == lastHash) {
+            Block preBlock = blockService.getBlock(preHash.getDigestHex());
+            if (null == preBlock || preBlock.getHeader().getHeight() != (height - 1)) {
+                Log.info("prehash wrong!,height:" + height);
+                return false;
             }
-            verify();
-        } catch (Exception e) {
-            Log.error(e);
+        } else if (!lastHash.equals(preHash)) {
+            Log.info("prehash wrong!,height:" + height);
+            return false;
         }
+        ValidateResult result = block.verify();
+        if (result.isFailed() && result.getErrorCode() != ErrorCode.ORPHAN_TX) {
+            if (null != result.getMessage()) {
+                Log.info(result.getMessage());
+            }
+            return false;
+        }
+        blockManager.addBlock(block, false, null);
+        receivedTxCacheManager.removeTx(block.getTxHashList());
+        confirmingTxCacheManager.putTxList(block.getTxs());
         return true;
     }
 
-    private synchronized void verify() {
-        boolean done = true;
-        if (nodeStatusMap.isEmpty()) {
-            working = false;
-            return;
-        }
-        for (NodeDownloadingStatus status : nodeStatusMap.values()) {
-            if (!done) {
-                break;
-            }
-            done = status.finished();
-            if (!done && status.getUpdateTime() < (TimeService.currentTimeMillis() - DOWNLOAD_IDLE_TIME_OUT)) {
+    /**
+     * frees the nodes whose range is complete and hands stalled ranges to other nodes
+     */
+    private void checkRanges() {
+        long now = TimeService.currentTimeMillis();
+        for (NodeDownloadingStatus status : new ArrayList<>(nodeStatusMap.values())) {
+            if (status.finished()) {
                 nodeStatusMap.remove(status.getNodeId());
-                try {
-                    failedExecute(status);
-                } catch (InterruptedException e) {
-                    Log.error(e);
-                }
-
+            } else if (status.getUpdateTime() < (now - DOWNLOAD_IDLE_TIME_OUT)) {
+                Log.info("download block :" + status.getStart() + "-" + status.getEnd() + " stalled, from : " + status.getNodeId());
+                removeNode(status.getNodeId());
+                resetRange(status.getStart(), status.getStart(), status.getEnd());
             }
         }
-        if (!done) {
-            return;
-        }
-        Result result;
-        try {
-            result = checkHash();
-        } catch (InterruptedException e) {
-            Log.error(e);
-            return;
-        }
-        if (null == result || result.isFailed()) {
-            return;
-        }
-        for (long i = currentRound.getStart(); i <= currentRound.getEnd(); i++) {
-            Block block = blockMap.get(i);
-            if (null == block) {
-                //todo
-                Log.error("cache block is null");
-                break;
+    }
+
+    private void fillWindow() {
+        for (NodeDownloadingStatus status : rangeMap.values()) {
+            if (status.getStart() > nextHeight + DOWNLOAD_WINDOW_BLOCKS) {
+                return;
             }
-            ValidateResult result1 = block.verify();
-            if (result1.isFailed() && result1.getErrorCode() != ErrorCode.ORPHAN_TX) {
-                if (null != result1.getMessage()) {
-                    Log.info(result1.getMessage());
-                }
-                try {
-                    failedExecute(block.getHeader().getHeight());
-                } catch (InterruptedException e) {
-                    Log.error(e);
-                }
+            if (null != status.getNodeId()) {
+                continue;
+            }
+            String nodeId = getIdleNode();
+            if (null == nodeId) {
                 return;
             }
-            blockManager.addBlock(block, false, null);
-            receivedTxCacheManager.removeTx(block.getTxHashList());
-            confirmingTxCacheManager.putTxList(block.getTxs());
+            sendRequest(status, nodeId);
         }
-        finished();
     }
 
-
-    private void failedExecute(long height) throws InterruptedException {
-        NodeDownloadingStatus status = null;
-        for (NodeDownloadingStatus status1 : nodeStatusMap.values()) {
-            if (status1.containsHeight(height)) {
-                status = status1;
-                break;
+    private String getIdleNode() {
+        if (nodeStatusMap.size() >= DOWNLOAD_NODE_COUNT) {
+            return null;
+        }
+        for (String nodeId : nodeIdList) {
+            if (!nodeStatusMap.containsKey(nodeId)) {
+                return nodeId;
             }
         }
-        this.failedExecute(status);
+        return null;
     }
 
-    private void failedExecute(NodeDownloadingStatus nodeStatus) throws InterruptedException {
-        if (null == nodeStatus) {
-            return;
-        }
-        this.nodeIdList.remove(nodeStatus.getNodeId());
-        this.queueService.remove(queueId, nodeStatus.getNodeId());
-        if (nodeIdList.isEmpty() || queueService.size(queueId) == 0) {
-            return;
-        }
-        this.sendRequest(nodeStatus.getStart(), nodeStatus.getEnd(), this.queueService.take(queueId));
+    private void sendRequest(NodeDownloadingStatus status, String nodeId) {
+        status.setNodeId(nodeId);
+        status.setUpdateTime(TimeService.currentTimeMillis());
+        nodeStatusMap.put(nodeId, status);
+        this.eventBroadcaster.sendToNode(new GetBlockRequest(status.getStart(), status.getEnd(), true), nodeId);
+        Log.info("download block :" + status.getStart() + "-" + status.getEnd() + ",from : " + nodeId);
     }
 
-    private Result checkHash() throws InterruptedException {
-        for (long i = currentRound.getStart(); i <= currentRound.getEnd(); i++) {
-            Block block = blockMap.get(i);
-            if (null == block) {
-                return Result.getFailed("data error");
-            }
-            if ((i - currentRound.getStart()) % DOWNLOAD_BLOCKS_PER_TIME == 0) {
-                NulsDigestData mustHash = blocksHash.getHash(block.getHeader().getHeight());
-                NulsDigestData hash = block.getHeader().getHash();
-                if (null == hash || null == mustHash || !mustHash.getDigestHex().equals(hash.getDigestHex())) {
-                    failedExecute(block.getHeader().getHeight());
-                    return Result.getFailed("hash wrong!");
-                }
-            }
-            String preHash = block.getHeader().getPreHash().getDigestHex();
-            Block preBlock = blockMap.get(block.getHeader().getHeight() - 1);
-            if (preBlock == null) {
-                preBlock = blockService.getBlock(preHash);
-            }
-            if (null == preBlock || preBlock.getHeader().getHeight() != (block.getHeader().getHeight() - 1)) {
-                failedExecute(block.getHeader().getHeight());
-                return Result.getFailed("prehash wrong!");
+    /**
+     * the node that served the wrong block is dropped with the blocks it left,
+     * and the rest of the range is downloaded again, a node still working on it is only freed
+     */
+    private void failedExecute(long height, String nodeId) {
+        removeNode(nodeId);
+        for (Map.Entry<Long, DownloadedBlock> blockEntry : new ArrayList<>(blockMap.entrySet())) {
+            if (blockEntry.getKey() >= height && nodeId.equals(blockEntry.getValue().nodeId)) {
+                blockMap.remove(blockEntry.getKey(), blockEntry.getValue());
             }
         }
-        return Result.getSuccess();
+        blockMap.remove(height);
+        Map.Entry<Long, NodeDownloadingStatus> entry = rangeMap.floorEntry(height);
+        if (null == entry) {
+            return;
+        }
+        NodeDownloadingStatus status = entry.getValue();
+        if (null != status.getNodeId()) {
+            nodeStatusMap.remove(status.getNodeId(), status);
+        }
+        for (long i = height; i <= status.getEnd(); i++) {
+            blockMap.remove(i);
+        }
+        resetRange(entry.getKey(), height, status.getEnd());
     }
 
-    private void finished() {
-        if (!roundFinished()) {
+    /**
+     * the range waits for another node, heights already added are not requested again
+     */
+    private void resetRange(long key, long start, long end) {
+        if (!rangeMap.containsKey(key)) {
             return;
         }
-        blockMap.clear();
-        nodeStatusMap.clear();
-        if (!roundList.isEmpty()) {
-            currentRound = roundList.get(0);
-            roundList.remove(0);
-            startDownload();
-            return;
+        rangeMap.remove(key);
+        start = Math.max(start, nextHeight);
+        if (start <= end) {
+            rangeMap.put(start, newRange(start, end));
         }
-        this.finished = true;
-        this.queueService.destroyQueue(queueId);
-        this.nodeStatusMap.clear();
-        working = false;
     }
 
-    private boolean roundFinished() {
-        boolean result = true;
-        for (String nodeId : currentRound.getNodeIdList()) {
-            if (!result) {
-                break;
-            }
-            try {
-                NodeDownloadingStatus status = nodeStatusMap.get(nodeId);
-                if (status != null) {
-                    result = status.finished();
-                }
-            } catch (Exception e) {
-                Log.error(e);
-            }
+    private void removeNode(String nodeId) {
+        this.nodeIdList.remove(nodeId);
+        this.nodeStatusMap.remove(nodeId);
+    }
+
+    private NodeDownloadingStatus newRange(long start, long end) {
+        NodeDownloadingStatus status = new NodeDownloadingStatus();
+        status.setStart(start);
+        status.setEnd(end);
+        return status;
+    }
+
+    private boolean isHeadersFirst() {
+        if (null == NulsContext.MODULES_CONFIG) {
+            return false;
         }
-        return result;
+        return NulsContext.MODULES_CONFIG.getCfgValue(PocConsensusConstant.CFG_CONSENSUS_SECTION, PocConsensusConstant.PROPERTY_HEADERS_FIRST, true);
     }
 
     public boolean isFinished() {
@@ -388,6 +408,16 @@ public class BlockBatchDownloadUtils {
     }
 
     public boolean isWorking() {
-        return working;
+        return working.get();
+    }
+
+    private static class DownloadedBlock {
+        private final Block block;
+        private final String nodeId;
+
+        private DownloadedBlock(Block block, String nodeId) {
+            this.block = block;
+            this.nodeId = nodeId;
+        }
     }
 }
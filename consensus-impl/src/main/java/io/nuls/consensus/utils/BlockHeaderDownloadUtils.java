@@ -0,0 +1,251 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2018 nuls.io
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.nuls.consensus.utils;
+
+import io.nuls.consensus.entity.NodeDownloadingStatus;
+import io.nuls.consensus.entity.validator.block.HeaderContinuityValidator;
+import io.nuls.consensus.event.GetBlockHeadersRequest;
+import io.nuls.core.chain.entity.BlockHeader;
+import io.nuls.core.chain.entity.NulsDigestData;
+import io.nuls.core.context.NulsContext;
+import io.nuls.core.utils.date.TimeService;
+import io.nuls.core.utils.log.Log;
+import io.nuls.core.validate.ValidateResult;
+import io.nuls.event.bus.service.intf.EventBroadcaster;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Downloads the header chain of a height range before any block body, the range is split in parts that are
+ * requested from different nodes, every part has to match the hashes the nodes agreed on, link to its
+ * neighbours and pass the header validators
+ *
+ * @author agent
+ * @date 2026/10/18
+ */
+public class BlockHeaderDownloadUtils {
+
+    private static final int DOWNLOAD_NODE_COUNT = 10;
+    /**
+     * unit:ms
+     */
+    private static final long DOWNLOAD_TIME_OUT = 10000;
+    private static final long CHECK_INTERVAL = 1000;
+
+    private static final BlockHeaderDownloadUtils INSTANCE = new BlockHeaderDownloadUtils();
+    private EventBroadcaster eventBroadcaster = NulsContext.getServiceBean(EventBroadcaster.class);
+
+    /**
+     * the part each node is downloading
+     */
+    private Map<String, NodeDownloadingStatus> nodeStatusMap = new ConcurrentHashMap<>();
+    private LinkedList<NodeDownloadingStatus> waitingList = new LinkedList<>();
+    private TreeMap<Long, List<BlockHeader>> headersMap = new TreeMap<>();
+
+    /**
+     * the nodes still asked in this request, the caller's list only loses the nodes serving wrong headers
+     */
+    private List<String> activeNodeList = new ArrayList<>();
+    private List<String> nodeIdList;
+    private BlockInfo blocksHash;
+    private volatile boolean requesting;
+
+    private final Lock lock = new ReentrantLock();
+    private final Condition progress = lock.newCondition();
+
+    private BlockHeaderDownloadUtils() {
+    }
+
+    public static BlockHeaderDownloadUtils getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * @return the verified headers by height, null when no node served the whole range
+     */
+    public synchronized Map<Long, BlockHeader> request(List<String> nodeIdList, long startHeight, long endHeight, long split, BlockInfo blocksHash) throws InterruptedException {
+        lock.lock();
+        try {
+            this.nodeIdList = nodeIdList;
+            this.blocksHash = blocksHash;
+            this.activeNodeList = new ArrayList<>(nodeIdList);
+            for (long start = startHeight; start <= endHeight; start += split) {
+                NodeDownloadingStatus status = new NodeDownloadingStatus();
+                status.setStart(start);
+                status.setEnd(Math.min(start + split - 1, endHeight));
+                waitingList.add(status);
+            }
+            int count = waitingList.size();
+            requesting = true;
+            while (headersMap.size() < count) {
+                checkTimeout();
+                if (activeNodeList.isEmpty()) {
+                    Log.warn("no node served the headers of " + startHeight + "-" + endHeight);
+                    return null;
+                }
+                sendRequests();
+                progress.await(CHECK_INTERVAL, TimeUnit.MILLISECONDS);
+            }
+            return linkParts();
+        } finally {
+            requesting = false;
+            nodeStatusMap.clear();
+            waitingList.clear();
+            headersMap.clear();
+            lock.unlock();
+        }
+    }
+
+    public boolean downloadedHeaders(String nodeId, List<BlockHeader> headerList) {
+        if (!requesting) {
+            return false;
+        }
+        NodeDownloadingStatus status = nodeStatusMap.get(nodeId);
+        if (null == status) {
+            return false;
+        }
+        //signatures are checked outside the lock
+        boolean valid = checkPart(status, headerList);
+        lock.lock();
+        try {
+            if (!requesting || nodeStatusMap.get(nodeId) != status) {
+                return false;
+            }
+            nodeStatusMap.remove(nodeId);
+            if (valid) {
+                headersMap.put(status.getStart(), headerList);
+            } else {
+                Log.info("wrong headers :" + status.getStart() + "-" + status.getEnd() + ",from : " + nodeId);
+                activeNodeList.remove(nodeId);
+                nodeIdList.remove(nodeId);
+                status.setNodeId(null);
+                waitingList.add(status);
+            }
+            progress.signal();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean checkPart(NodeDownloadingStatus status, List<BlockHeader> headerList) {
+        if (null == headerList || headerList.size() != (status.getEnd() - status.getStart() + 1)) {
+            return false;
+        }
+        BlockHeader preHeader = null;
+        for (BlockHeader header : headerList) {
+            long height = null == preHeader ? status.getStart() : preHeader.getHeight() + 1;
+            if (header.getHeight() != height || null == header.getHash()) {
+                return false;
+            }
+            NulsDigestData mustHash = blocksHash.getHash(height);
+            if (null != mustHash && !mustHash.equals(header.getHash())) {
+                return false;
+            }
+            if (null != preHeader && !checkLink(header, preHeader)) {
+                return false;
+            }
+            ValidateResult result = header.verify();
+            if (result.isFailed()) {
+                Log.info("header " + height + " :" + result.getMessage());
+                return false;
+            }
+            preHeader = header;
+        }
+        return true;
+    }
+
+    private boolean checkLink(BlockHeader header, BlockHeader preHeader) {
+        if (!preHeader.getHash().equals(header.getPreHash())) {
+            return false;
+        }
+        return HeaderContinuityValidator.getInstance().validate(header, preHeader).isSuccess();
+    }
+
+    /**
+     * every part was verified on its own, the parts have to link to each other as well
+     */
+    private Map<Long, BlockHeader> linkParts() {
+        Map<Long, BlockHeader> headerMap = new HashMap<>();
+        BlockHeader preHeader = null;
+        for (List<BlockHeader> headerList : headersMap.values()) {
+            BlockHeader first = headerList.get(0);
+            if (null != preHeader && !checkLink(first, preHeader)) {
+                Log.warn("headers do not link at :" + first.getHeight());
+                return null;
+            }
+            for (BlockHeader header : headerList) {
+                headerMap.put(header.getHeight(), header);
+            }
+            preHeader = headerList.get(headerList.size() - 1);
+        }
+        return headerMap;
+    }
+
+    private void checkTimeout() {
+        long now = TimeService.currentTimeMillis();
+        for (NodeDownloadingStatus status : new ArrayList<>(nodeStatusMap.values())) {
+            if (status.getUpdateTime() < (now - DOWNLOAD_TIME_OUT)) {
+                Log.info("download headers :" + status.getStart() + "-" + status.getEnd() + " timeout, from : " + status.getNodeId());
+                nodeStatusMap.remove(status.getNodeId());
+                activeNodeList.remove(status.getNodeId());
+                status.setNodeId(null);
+                waitingList.add(status);
+            }
+        }
+    }
+
+    private void sendRequests() {
+        while (!waitingList.isEmpty() && nodeStatusMap.size() < DOWNLOAD_NODE_COUNT) {
+            String nodeId = getIdleNode();
+            if (null == nodeId) {
+                return;
+            }
+            NodeDownloadingStatus status = waitingList.poll();
+            status.setNodeId(nodeId);
+            status.setUpdateTime(TimeService.currentTimeMillis());
+            nodeStatusMap.put(nodeId, status);
+            if (!eventBroadcaster.sendToNode(new GetBlockHeadersRequest(status.getStart(), status.getEnd()), nodeId)) {
+                nodeStatusMap.remove(nodeId);
+                activeNodeList.remove(nodeId);
+                status.setNodeId(null);
+                waitingList.addFirst(status);
+            }
+        }
+    }
+
+    private String getIdleNode() {
+        for (String nodeId : activeNodeList) {
+            if (!nodeStatusMap.containsKey(nodeId)) {
+                return nodeId;
+            }
+        }
+        return null;
+    }
+}
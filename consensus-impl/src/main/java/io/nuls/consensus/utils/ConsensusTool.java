@@ -39,6 +39,7 @@ import io.nuls.core.context.NulsContext;
 import io.nuls.core.exception.NulsException;
 import io.nuls.core.exception.NulsRuntimeException;
 import io.nuls.core.script.P2PKHScriptSig;
+import io.nuls.core.utils.crypto.MerkleHashBuilder;
 import io.nuls.core.utils.date.TimeService;
 import io.nuls.core.utils.io.NulsByteBuffer;
 import io.nuls.core.utils.log.Log;
@@ -195,7 +196,7 @@ public class ConsensusTool {
             txHashList.add(tx.getHash());
         }
         header.setPackingAddress(account.getAddress().toString());
-        header.setMerkleHash(NulsDigestData.calcMerkleDigestData(txHashList));
+        header.setMerkleHash(MerkleHashBuilder.calcMerkleHash(txHashList));
         header.setHash(NulsDigestData.calcDigestData(block.getHeader()));
         P2PKHScriptSig scriptSig = new P2PKHScriptSig();
         NulsSignData signData = accountService.signDigest(header.getHash(), account, NulsContext.CACHED_PASSWORD_OF_WALLET);
@@ -0,0 +1,164 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2018 nuls.io
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.nuls.consensus.entity.block;
+
+import io.nuls.core.chain.entity.BlockHeader;
+import io.nuls.core.chain.entity.NulsDigestData;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent
+ * @date 2026/10/18
+ */
+public class BifurcateProcessorTest {
+
+    private BifurcateProcessor processor;
+
+    @Before
+    public void init() {
+        processor = new BifurcateProcessor();
+    }
+
+    @Test
+    public void fork() {
+        addChain("a", 1, 5, null);
+        addChain("b", 3, 4, "a2");
+        assertEquals(2, processor.getChainSize());
+        assertEquals(7, processor.getHashSize());
+        assertEquals(5, processor.getMaxHeight());
+        assertEquals(2, processor.getHashList(3).size());
+        assertTrue(processor.getHashList(3).contains(hash("b3")));
+        assertEquals(Collections.singletonList(hash("a5")), processor.getHashList(5));
+
+        //a header seen twice does not fork again
+        processor.addHeader(header("b3", 3, "a2"));
+        assertEquals(2, processor.getChainSize());
+        assertEquals(7, processor.getHashSize());
+    }
+
+    @Test
+    public void prune() {
+        addChain("a", 1, 3, null);
+        addChain("b", 2, 2, "a1");
+        assertEquals(2, processor.getChainSize());
+
+        //the side chain a1,b2 is kept until the longest chain is 6 headers longer
+        addChain("a", 4, 8, "a3");
+        assertEquals(2, processor.getChainSize());
+        processor.addHeader(header("a9", 9, "a8"));
+        assertEquals(1, processor.getChainSize());
+        assertEquals(9, processor.getHashSize());
+        assertEquals(Collections.singletonList(hash("a2")), processor.getHashList(2));
+    }
+
+    @Test
+    public void processing() {
+        assertFalse(processor.processing(1));
+        addChain("a", 1, 6, null);
+        assertFalse(processor.processing(1));
+        assertFalse(processor.processing(7));
+
+        addChain("a", 7, 8, "a6");
+        addChain("b", 2, 2, "a1");
+        assertFalse(processor.processing(1));
+
+        processor.addHeader(header("a9", 9, "a8"));
+        assertTrue(processor.processing(1));
+        assertEquals(1, processor.getChainSize());
+    }
+
+    @Test
+    public void removeHash() {
+        addChain("a", 1, 6, null);
+        addChain("b", 3, 4, "a2");
+        addChain("c", 5, 5, "a4");
+        processor.removeHash(hash("a4"));
+
+        assertEquals(3, processor.getChainSize());
+        assertEquals(5, processor.getHashSize());
+        assertTrue(processor.getHashList(2).isEmpty());
+        assertEquals(Collections.singletonList(hash("b3")), processor.getHashList(3));
+        assertEquals(2, processor.getHashList(5).size());
+
+        //a5,a6 goes on, c5 forked at the saved header and counts from it,
+        //b3,b4 forked below it and still counts a1,a2
+        addChain("a", 7, 11, "a6");
+        assertEquals(3, processor.getChainSize());
+        processor.addHeader(header("a12", 12, "a11"));
+        assertEquals(2, processor.getChainSize());
+        assertTrue(processor.getHashList(5).contains(hash("a5")));
+        assertFalse(processor.getHashList(5).contains(hash("c5")));
+        addChain("a", 13, 14, "a12");
+        assertEquals(2, processor.getChainSize());
+        processor.addHeader(header("a15", 15, "a14"));
+        assertEquals(1, processor.getChainSize());
+        assertTrue(processor.getHashList(3).isEmpty());
+    }
+
+    @Test
+    public void removeHashOfOneRoot() {
+        addChain("a", 1, 3, null);
+        addChain("b", 2, 3, "a1");
+        processor.removeHash(hash("a1"));
+        assertEquals(2, processor.getChainSize());
+
+        //a2 is one of two roots, the other root b2,b3 keeps its size
+        processor.removeHash(hash("a2"));
+        assertEquals(2, processor.getChainSize());
+        assertEquals(3, processor.getHashSize());
+        addChain("a", 4, 10, "a3");
+        assertEquals(2, processor.getChainSize());
+        processor.addHeader(header("a11", 11, "a10"));
+        assertEquals(1, processor.getChainSize());
+        assertTrue(processor.getHashList(2).isEmpty());
+    }
+
+    private void addChain(String name, long start, long end, String preName) {
+        for (long height = start; height <= end; height++) {
+            String pre = height == start ? preName : name + (height - 1);
+            processor.addHeader(header(name + height, height, pre));
+        }
+    }
+
+    private BlockHeader header(String name, long height, String preName) {
+        BlockHeader header = new BlockHeader();
+        header.setHeight(height);
+        header.setHash(digest(name));
+        header.setPreHash(digest(null == preName ? "genesis" : preName));
+        return header;
+    }
+
+    private String hash(String name) {
+        return digest(name).getDigestHex();
+    }
+
+    private NulsDigestData digest(String name) {
+        return NulsDigestData.calcDigestData(name.getBytes());
+    }
+}
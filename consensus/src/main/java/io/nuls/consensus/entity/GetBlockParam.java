@@ -43,6 +43,7 @@ public class GetBlockParam extends BaseNulsData {
     private long time;
     private long start;
     private long end;
+    private boolean batch;
 
     public GetBlockParam() {
         this.time = TimeService.currentTimeMillis();
@@ -54,6 +55,7 @@ public class GetBlockParam extends BaseNulsData {
         size += Utils.sizeOfInt48();
         size += Utils.sizeOfLong(start);
         size += Utils.sizeOfLong(end);
+        size += Utils.sizeOfBoolean(batch);
         return size;
     }
 
@@ -62,6 +64,7 @@ public class GetBlockParam extends BaseNulsData {
         stream.writeInt48(time);
         stream.writeVarInt(start);
         stream.writeVarInt(end);
+        stream.writeBoolean(batch);
     }
 
     @Override
@@ -69,6 +72,10 @@ public class GetBlockParam extends BaseNulsData {
         this.time = byteBuffer.readInt48();
         this.start = byteBuffer.readVarInt();
         this.end = byteBuffer.readVarInt();
+        //older nodes do not ask for batched responses
+        if (!byteBuffer.isFinished()) {
+            this.batch = byteBuffer.readBoolean();
+        }
     }
 
     public long getStart() {
@@ -86,4 +93,12 @@ public class GetBlockParam extends BaseNulsData {
     public void setEnd(long end) {
         this.end = end;
     }
+
+    public boolean isBatch() {
+        return batch;
+    }
+
+    public void setBatch(boolean batch) {
+        this.batch = batch;
+    }
 }
@@ -42,10 +42,18 @@ public class GetBlockRequest extends BaseConsensusEvent<GetBlockParam> {
     }
 
     public GetBlockRequest(long start, long end) {
+        this(start, end, false);
+    }
+
+    /**
+     * @param batch answer with several blocks per message
+     */
+    public GetBlockRequest(long start, long end, boolean batch) {
         this();
         GetBlockParam param = new GetBlockParam();
         param.setEnd(end);
         param.setStart(start);
+        param.setBatch(batch);
         this.setEventBody(param);
     }
 
@@ -66,4 +74,8 @@ public class GetBlockRequest extends BaseConsensusEvent<GetBlockParam> {
     public long getEnd() {
         return this.getEventBody().getEnd();
     }
+
+    public boolean isBatch() {
+        return this.getEventBody().isBatch();
+    }
 }
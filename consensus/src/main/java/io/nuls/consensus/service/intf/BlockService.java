@@ -59,8 +59,15 @@ public interface BlockService {
 
     boolean saveBlock(Block block) throws IOException;
 
+    /**
+     * saves consecutive blocks in one db transaction
+     */
+    boolean saveBlockList(List<Block> blockList) throws IOException;
+
     void rollbackBlock(long height) throws NulsException;
 
+    List<BlockHeader> getBlockHeaderList(long startHeight, long endHeight) throws NulsException;
+
     List<BlockHeader> getBlockHeaderList(long start, long end, long split);
 
     Page<BlockHeaderPo> getBlockHeaderList(String nodeAddress, int type, int pageNumber, int pageSize);
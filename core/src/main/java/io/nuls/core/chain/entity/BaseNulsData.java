@@ -33,7 +33,6 @@ import io.nuls.core.utils.crypto.Hex;
 import io.nuls.core.utils.io.NulsByteBuffer;
 import io.nuls.core.utils.io.NulsOutputStreamBuffer;
 import io.nuls.core.validate.DataValidatorChain;
-import io.nuls.core.validate.NulsDataValidator;
 import io.nuls.core.validate.ValidateResult;
 import io.nuls.core.validate.ValidatorManager;
 
@@ -57,11 +56,6 @@ public abstract class BaseNulsData implements Serializable, Cloneable {
         this.parse(buffer);
     }
 
-
-    protected void registerValidator(NulsDataValidator<? extends BaseNulsData> validator) {
-        ValidatorManager.addValidator(this.getClass(), validator);
-    }
-
     public abstract int size();
 
     /**
@@ -81,7 +75,7 @@ public abstract class BaseNulsData implements Serializable, Cloneable {
                 serializeToStream(buffer);
             }
             byte[] bytes = bos.toByteArray();
-            if (bytes.length != this.size()) {
+            if (bytes.length != size) {
                 throw new NulsRuntimeException(ErrorCode.FAILED, "序列化和size长度不一致：" + this.getClass());
             }
             return bytes;
@@ -96,6 +90,21 @@ public abstract class BaseNulsData implements Serializable, Cloneable {
         }
     }
 
+    /**
+     * write this object straight into the given stream, nested objects share the same stream
+     * so no temporary array is created for them
+     *
+     * @param buffer
+     * @throws IOException
+     */
+    public final void serializeTo(NulsOutputStreamBuffer buffer) throws IOException {
+        if (size() == 0) {
+            buffer.write(NulsConstant.PLACE_HOLDER);
+        } else {
+            serializeToStream(buffer);
+        }
+    }
+
     public final void parse(byte[] bytes) throws NulsException {
         if (bytes == null || bytes.length == 0 || ((bytes.length == 4) && Arrays.equals(NulsConstant.PLACE_HOLDER, bytes))) {
             return;
@@ -103,6 +112,13 @@ public abstract class BaseNulsData implements Serializable, Cloneable {
         this.parse(new NulsByteBuffer(bytes));
     }
 
+    /**
+     * parse straight from the shared buffer, the cursor ends up right behind this object
+     */
+    public final void parseFrom(NulsByteBuffer byteBuffer) throws NulsException {
+        this.parse(byteBuffer);
+    }
+
     /**
      * serialize important field
      *
@@ -24,7 +24,6 @@
 package io.nuls.core.chain.entity;
 
 import io.nuls.core.chain.intf.NulsCloneable;
-import io.nuls.core.chain.manager.BlockValidatorManager;
 import io.nuls.core.chain.manager.TransactionManager;
 import io.nuls.core.constant.ErrorCode;
 import io.nuls.core.exception.NulsException;
@@ -33,7 +32,6 @@ import io.nuls.core.utils.crypto.Utils;
 import io.nuls.core.utils.io.NulsByteBuffer;
 import io.nuls.core.utils.io.NulsOutputStreamBuffer;
 import io.nuls.core.utils.log.Log;
-import io.nuls.core.validate.NulsDataValidator;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -50,14 +48,6 @@ public class Block extends BaseNulsData implements NulsCloneable {
     private List<Transaction> txs;
 
     public Block() {
-        initValidators();
-    }
-
-    private void initValidators() {
-        List<NulsDataValidator> list = BlockValidatorManager.getValidators();
-        for (NulsDataValidator<Block> validator : list) {
-            this.registerValidator(validator);
-        }
     }
 
     @Override
@@ -73,7 +63,7 @@ public class Block extends BaseNulsData implements NulsCloneable {
     protected void serializeToStream(NulsOutputStreamBuffer stream) throws IOException {
         header.serializeToStream(stream);
         for (Transaction tx : txs) {
-            stream.write(tx.serialize());
+            stream.writeNulsData(tx);
         }
     }
 
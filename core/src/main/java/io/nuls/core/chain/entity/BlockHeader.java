@@ -23,17 +23,14 @@
  */
 package io.nuls.core.chain.entity;
 
-import io.nuls.core.chain.manager.BlockHeaderValidatorManager;
 import io.nuls.core.exception.NulsException;
 import io.nuls.core.script.P2PKHScriptSig;
 import io.nuls.core.utils.crypto.Utils;
 import io.nuls.core.utils.io.NulsByteBuffer;
 import io.nuls.core.utils.io.NulsOutputStreamBuffer;
 import io.nuls.core.utils.log.Log;
-import io.nuls.core.validate.NulsDataValidator;
 
 import java.io.IOException;
-import java.util.List;
 
 /**
  * @author vivi
@@ -60,14 +57,6 @@ public class BlockHeader extends BaseNulsData {
     private int size;
 
     public BlockHeader() {
-        initValidators();
-    }
-
-    private void initValidators() {
-        List<NulsDataValidator> list = BlockHeaderValidatorManager.getValidators();
-        for (NulsDataValidator validator : list) {
-            this.registerValidator(validator);
-        }
     }
 
     @Override
@@ -28,13 +28,14 @@ import io.nuls.core.crypto.Sha256Hash;
 import io.nuls.core.exception.NulsException;
 import io.nuls.core.exception.NulsRuntimeException;
 import io.nuls.core.utils.crypto.Hex;
+import io.nuls.core.utils.crypto.MerkleHashBuilder;
 import io.nuls.core.utils.crypto.Utils;
 import io.nuls.core.utils.io.NulsByteBuffer;
 import io.nuls.core.utils.io.NulsOutputStreamBuffer;
 import io.nuls.core.utils.log.Log;
 
 import java.io.IOException;
-import java.lang.reflect.Array;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -47,6 +48,8 @@ public class NulsDigestData extends BaseNulsData {
     protected short digestAlgType = DIGEST_ALG_SHA256;
     protected byte[] digestBytes;
 
+    private transient NulsDigestKey digestKey;
+
     public static short DIGEST_ALG_SHA256=0;
     public static short DIGEST_ALG_SHA160=1;
 
@@ -74,6 +77,7 @@ public class NulsDigestData extends BaseNulsData {
 
     public void setDigestAlgType(short digestAlgType) {
         this.digestAlgType = digestAlgType;
+        this.digestKey = null;
     }
 
     @Override
@@ -95,6 +99,7 @@ public class NulsDigestData extends BaseNulsData {
         }catch (Exception e){
             e.printStackTrace();
         }
+        this.digestKey = null;
     }
 
     public String getDigestHex() {
@@ -106,6 +111,16 @@ public class NulsDigestData extends BaseNulsData {
         }
     }
 
+    /**
+     * the binary key of this digest, use it as the key of maps and caches
+     */
+    public NulsDigestKey getDigestKey() {
+        if (null == digestKey) {
+            digestKey = NulsDigestKey.of(this);
+        }
+        return digestKey;
+    }
+
     public static NulsDigestData fromDigestHex(String hex) {
         byte[] bytes = Hex.decode(hex);
         return new NulsDigestData(bytes);
@@ -160,44 +175,31 @@ public class NulsDigestData extends BaseNulsData {
         return null;
     }
 
+    /**
+     * the list is left unchanged, see {@link MerkleHashBuilder}
+     */
     public static NulsDigestData calcMerkleDigestData(List<NulsDigestData> ddList) {
-        //todo
-        int levelOffset = 0;
-        for (int levelSize = ddList.size(); levelSize > 1; levelSize = (levelSize + 1) / 2) {
-            for (int left = 0; left < levelSize; left += 2) {
-                int right = Math.min(left + 1, levelSize - 1);
-                byte[] leftBytes = Utils.reverseBytes(ddList.get(levelOffset + left).getDigestBytes());
-                byte[] rightBytes = Utils.reverseBytes(ddList.get(levelOffset + right).getDigestBytes());
-                byte[] whole = new byte[leftBytes.length+rightBytes.length];
-                System.arraycopy(leftBytes,0,whole,0,leftBytes.length);
-                System.arraycopy(rightBytes,0,whole,leftBytes.length,rightBytes.length);
-                NulsDigestData digest = NulsDigestData.calcDigestData(whole);
-                ddList.add( digest);
-            }
-            levelOffset += levelSize;
-        }
-        byte[] bytes = ddList.get(ddList.size() - 1).getDigestBytes();
-        Sha256Hash merkleHash = Sha256Hash.wrap(bytes);
-        NulsDigestData digestData = new NulsDigestData();
-        digestData.digestBytes = merkleHash.getBytes();
-        return digestData;
+        return MerkleHashBuilder.calcMerkleHash(ddList);
     }
 
     @Override
     public boolean equals(Object obj) {
-        if (obj == null) {
-            return false;
+        if (this == obj) {
+            return true;
         }
         if (!(obj instanceof NulsDigestData)) {
             return false;
         }
-        if (this.getWholeBytes() == null || ((NulsDigestData) obj).getWholeBytes() == null) {
-            return false;
-        }
-        if (this.getWholeBytes().length != ((NulsDigestData) obj).getWholeBytes().length) {
+        NulsDigestData other = (NulsDigestData) obj;
+        if (this.digestBytes == null || other.digestBytes == null) {
             return false;
         }
-        return this.getDigestHex().equals(((NulsDigestData) obj).getDigestHex());
+        return this.digestAlgType == other.digestAlgType && Arrays.equals(this.digestBytes, other.digestBytes);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * digestAlgType + Arrays.hashCode(digestBytes);
     }
 
     @Override
@@ -0,0 +1,97 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2018 nuls.io
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.nuls.core.chain.entity;
+
+import io.nuls.core.utils.crypto.Hex;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Immutable binary key of a digest (algorithm type + digest bytes), optionally followed by an index.
+ * Use it as the key of maps and caches instead of the hex string of the digest.
+ *
+ * @author agent
+ * @date 2026/10/18
+ */
+public final class NulsDigestKey implements Serializable {
+
+    private final byte[] bytes;
+
+    private final int hashCode;
+
+    private NulsDigestKey(byte[] bytes) {
+        this.bytes = bytes;
+        this.hashCode = Arrays.hashCode(bytes);
+    }
+
+    public static NulsDigestKey of(NulsDigestData digestData) {
+        if (null == digestData || null == digestData.getDigestBytes()) {
+            return null;
+        }
+        return new NulsDigestKey(digestData.getWholeBytes());
+    }
+
+    /**
+     * key of the index-th item of the data identified by the digest, e.g. an output of a transaction
+     */
+    public static NulsDigestKey of(NulsDigestData digestData, int index) {
+        if (null == digestData || null == digestData.getDigestBytes()) {
+            return null;
+        }
+        byte[] digestBytes = digestData.getDigestBytes();
+        byte[] bytes = new byte[2 + digestBytes.length + 4];
+        bytes[0] = (byte) (0xFF & digestData.getDigestAlgType());
+        bytes[1] = (byte) (0xFF & (digestData.getDigestAlgType() >> 8));
+        System.arraycopy(digestBytes, 0, bytes, 2, digestBytes.length);
+        int offset = 2 + digestBytes.length;
+        bytes[offset] = (byte) (0xFF & index);
+        bytes[offset + 1] = (byte) (0xFF & (index >> 8));
+        bytes[offset + 2] = (byte) (0xFF & (index >> 16));
+        bytes[offset + 3] = (byte) (0xFF & (index >> 24));
+        return new NulsDigestKey(bytes);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof NulsDigestKey)) {
+            return false;
+        }
+        NulsDigestKey other = (NulsDigestKey) obj;
+        return this.hashCode == other.hashCode && Arrays.equals(this.bytes, other.bytes);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return Hex.encode(bytes);
+    }
+}
@@ -23,20 +23,20 @@
  */
 package io.nuls.core.chain.entity;
 
-import io.nuls.core.chain.manager.TransactionValidatorManager;
 import io.nuls.core.constant.NulsConstant;
 import io.nuls.core.constant.TxStatusEnum;
+import io.nuls.core.crypto.Sha256Hash;
 import io.nuls.core.crypto.VarInt;
 import io.nuls.core.exception.NulsException;
 import io.nuls.core.utils.crypto.Utils;
 import io.nuls.core.utils.date.TimeService;
 import io.nuls.core.utils.io.NulsByteBuffer;
 import io.nuls.core.utils.io.NulsOutputStreamBuffer;
-import io.nuls.core.utils.log.Log;
-import io.nuls.core.validate.NulsDataValidator;
 
 import java.io.IOException;
-import java.util.List;
+import java.io.OutputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
 
 /**
  * @author Niels
@@ -64,6 +64,18 @@ public abstract class Transaction<T extends BaseNulsData> extends BaseNulsData {
 
     protected TxStatusEnum status = TxStatusEnum.CACHED;
 
+    private static final byte[] EMPTY_SCRIPT_SIG = new byte[]{0};
+
+    private static final OutputStream NULL_OUTPUT_STREAM = new OutputStream() {
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    };
+
     public static final int TRANSFER_RECEIVE = 1;
     public static final int TRANSFER_SEND = 0;
     // when localTx is true, should care transferType
@@ -71,24 +83,40 @@ public abstract class Transaction<T extends BaseNulsData> extends BaseNulsData {
 
     protected int size;
 
+    /**
+     * the number of bytes read by the last parse, reset by any setter of a serialized field.
+     * a parsed transaction must not be changed in place through the objects its getters return,
+     * set a new txData or coinData instead, or this size and the sign digest go stale
+     */
+    private transient int parsedSize;
+
+    /**
+     * the digest of the transaction serialized without scriptSig, which is what the scriptSig signs
+     */
+    private transient NulsDigestData signDigest;
+
+    /**
+     * the scriptSig has been verified against the hash, reset when either of them changes
+     */
+    private transient boolean signVerified;
+
     public Transaction(int type) {
         this.dataType = NulsDataType.TRANSACTION;
         this.time = TimeService.currentTimeMillis();
         this.type = type;
-        this.initValidators();
-    }
-
-    private void initValidators() {
-        List<NulsDataValidator> list = TransactionValidatorManager.getValidators();
-        for (NulsDataValidator<Transaction> validator : list) {
-            this.registerValidator(validator);
-        }
     }
 
     public abstract T parseTxData(NulsByteBuffer byteBuffer) throws NulsException;
 
     @Override
     public int size() {
+        if (parsedSize > 0) {
+            return parsedSize;
+        }
+        return this.calcSize();
+    }
+
+    protected int calcSize() {
         int size = 0;
         size += VarInt.sizeOf(type);
         size += VarInt.sizeOf(time);
@@ -101,7 +129,11 @@ public abstract class Transaction<T extends BaseNulsData> extends BaseNulsData {
     }
 
     @Override
-    protected void serializeToStream(NulsOutputStreamBuffer stream) throws IOException {
+    protected final void serializeToStream(NulsOutputStreamBuffer stream) throws IOException {
+        this.serializeToStream(stream, scriptSig);
+    }
+
+    private void serializeToStream(NulsOutputStreamBuffer stream, byte[] scriptSig) throws IOException {
         stream.writeVarInt(type);
         stream.writeVarInt(time);
         stream.writeInt48(fee.getValue());
@@ -109,23 +141,77 @@ public abstract class Transaction<T extends BaseNulsData> extends BaseNulsData {
         stream.writeNulsData(txData);
         stream.writeBytesWithLength(scriptSig);
         //stream.writeNulsData(sign);
+        this.serializeExtend(stream);
+    }
+
+    /**
+     * serialize the fields which are behind the scriptSig
+     *
+     * @param stream
+     * @throws IOException
+     */
+    protected void serializeExtend(NulsOutputStreamBuffer stream) throws IOException {
+    }
+
+    /**
+     * the digest which the scriptSig signs, streamed from the fields without touching this transaction
+     */
+    public NulsDigestData getSignDigest() throws IOException {
+        NulsDigestData digestData = this.signDigest;
+        if (null == digestData) {
+            MessageDigest digest = Sha256Hash.newDigest();
+            this.serializeToStream(new NulsOutputStreamBuffer(new DigestOutputStream(NULL_OUTPUT_STREAM, digest)), null);
+            digestData = new NulsDigestData(NulsDigestData.DIGEST_ALG_SHA256, digest.digest(digest.digest()));
+            this.signDigest = digestData;
+        }
+        return digestData;
     }
 
     @Override
     protected void parse(NulsByteBuffer byteBuffer) throws NulsException {
+        int start = byteBuffer.getCursor();
         type = (int) byteBuffer.readVarInt();
         time = byteBuffer.readVarInt();
         long feeValue = byteBuffer.readInt48();
         this.fee = Na.valueOf(feeValue);
         this.remark = byteBuffer.readByLengthByte();
         txData = this.parseTxData(byteBuffer);
-        try {
-            hash = NulsDigestData.calcDigestData(this.serialize());
-        } catch (IOException e) {
-            Log.error(e);
-        }
+        int scriptSigStart = byteBuffer.getCursor();
         scriptSig = byteBuffer.readByLengthByte();
+        int scriptSigEnd = byteBuffer.getCursor();
         //sign = byteBuffer.readSign();
+        this.parseExtend(byteBuffer);
+        int end = byteBuffer.getCursor();
+
+        //the hash is the digest of the transaction without scriptSig, so hash the bytes already read
+        //and put an empty scriptSig in place of the real one
+        byte[] payload = byteBuffer.getPayload();
+        MessageDigest digest = Sha256Hash.newDigest();
+        digest.update(payload, start, scriptSigStart - start);
+        digest.update(EMPTY_SCRIPT_SIG);
+        digest.update(payload, scriptSigEnd, end - scriptSigEnd);
+        hash = new NulsDigestData(NulsDigestData.DIGEST_ALG_SHA256, digest.digest(digest.digest()));
+        signDigest = hash;
+        parsedSize = end - start;
+        signVerified = false;
+    }
+
+    /**
+     * parse the fields which are serialized behind the scriptSig
+     *
+     * @param byteBuffer
+     * @throws NulsException
+     */
+    protected void parseExtend(NulsByteBuffer byteBuffer) throws NulsException {
+    }
+
+    /**
+     * forget the size, sign digest and sign check taken from the serialized form, called when a serialized field changes
+     */
+    protected void resetParsed() {
+        this.parsedSize = 0;
+        this.signDigest = null;
+        this.signVerified = false;
     }
 
     public long getTime() {
@@ -134,10 +220,12 @@ public abstract class Transaction<T extends BaseNulsData> extends BaseNulsData {
 
     public void setTime(long time) {
         this.time = time;
+        this.resetParsed();
     }
 
     public void setType(int type) {
         this.type = type;
+        this.resetParsed();
     }
 
     public int getType() {
@@ -150,6 +238,7 @@ public abstract class Transaction<T extends BaseNulsData> extends BaseNulsData {
 
     public void setRemark(byte[] remark) {
         this.remark = remark;
+        this.resetParsed();
     }
 
     public NulsDigestData getHash() {
@@ -158,6 +247,7 @@ public abstract class Transaction<T extends BaseNulsData> extends BaseNulsData {
 
     public void setHash(NulsDigestData hash) {
         this.hash = hash;
+        this.signVerified = false;
     }
 
     //    public NulsSignData getSign() {
@@ -173,6 +263,8 @@ public abstract class Transaction<T extends BaseNulsData> extends BaseNulsData {
 
     public void setScriptSig(byte[] scriptSig) {
         this.scriptSig = scriptSig;
+        this.parsedSize = 0;
+        this.signVerified = false;
     }
 
     public T getTxData() {
@@ -181,6 +273,7 @@ public abstract class Transaction<T extends BaseNulsData> extends BaseNulsData {
 
     public void setTxData(T txData) {
         this.txData = txData;
+        this.resetParsed();
     }
 
     public Na getFee() {
@@ -189,6 +282,7 @@ public abstract class Transaction<T extends BaseNulsData> extends BaseNulsData {
 
     public void setFee(Na fee) {
         this.fee = fee;
+        this.resetParsed();
     }
 
     public long getBlockHeight() {
@@ -223,6 +317,14 @@ public abstract class Transaction<T extends BaseNulsData> extends BaseNulsData {
         this.transferType = transferType;
     }
 
+    public boolean isSignVerified() {
+        return signVerified;
+    }
+
+    public void setSignVerified(boolean signVerified) {
+        this.signVerified = signVerified;
+    }
+
     public int getSize() {
         if (size == 0) {
             size = size();
@@ -23,7 +23,9 @@
  */
 package io.nuls.core.chain.manager;
 
+import io.nuls.core.chain.entity.Block;
 import io.nuls.core.validate.NulsDataValidator;
+import io.nuls.core.validate.ValidatorManager;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -43,6 +45,7 @@ public class BlockValidatorManager {
      */
     public static void addBlockDefValitor(NulsDataValidator validator) {
         ALL_LIST.add(validator);
+        ValidatorManager.addValidator(Block.class, validator);
     }
 
     public static final List<NulsDataValidator> getValidators() {
@@ -26,7 +26,7 @@ package io.nuls.core.event;
 import io.nuls.core.chain.entity.BaseNulsData;
 import io.nuls.core.chain.entity.NulsDigestData;
 import io.nuls.core.chain.intf.NulsCloneable;
-import io.nuls.core.constant.ErrorCode;
+import io.nuls.core.crypto.Sha256Hash;
 import io.nuls.core.exception.NulsException;
 import io.nuls.core.utils.crypto.Hex;
 import io.nuls.core.utils.crypto.Utils;
@@ -64,14 +64,11 @@ public abstract class BaseEvent<T extends BaseNulsData> extends BaseNulsData imp
 
     @Override
     protected void parse(NulsByteBuffer byteBuffer) throws NulsException {
+        int start = byteBuffer.getCursor();
         this.header = byteBuffer.readNulsData(new EventHeader());
         this.eventBody = parseEventBody(byteBuffer);
-        try {
-            this.hash = NulsDigestData.calcDigestData(this.serialize());
-        } catch (IOException e) {
-            Log.error(e);
-            throw new NulsException(ErrorCode.DATA_PARSE_ERROR);
-        }
+        byte[] digest = Sha256Hash.hashTwice(byteBuffer.getPayload(), start, byteBuffer.getCursor() - start);
+        this.hash = new NulsDigestData(NulsDigestData.DIGEST_ALG_SHA256, digest);
     }
 
     @Override
@@ -92,6 +89,7 @@ public abstract class BaseEvent<T extends BaseNulsData> extends BaseNulsData imp
 
     public void setEventBody(T eventBody) {
         this.eventBody = eventBody;
+        this.hash = null;
     }
 
     public EventHeader getHeader() {
@@ -100,6 +98,7 @@ public abstract class BaseEvent<T extends BaseNulsData> extends BaseNulsData imp
 
     public void setHeader(EventHeader header) {
         this.header = header;
+        this.hash = null;
     }
 
     public NulsDigestData getHash() {
@@ -113,5 +112,12 @@ public abstract class BaseEvent<T extends BaseNulsData> extends BaseNulsData imp
         return hash;
     }
 
+    /**
+     * relay events are gossiped by every peer, copies already seen are dropped before dispatch
+     */
+    public boolean isRelayEvent() {
+        return false;
+    }
+
     public abstract NoticeData getNotice();
 }
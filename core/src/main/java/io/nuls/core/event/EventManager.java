@@ -82,26 +82,34 @@ public class EventManager {
 
     public static BaseEvent getInstance(byte[] bytes) throws NulsException {
         EventHeader header = new EventHeader();
-
         header.parse(new NulsByteBuffer(bytes));
-        Class<? extends BaseEvent> clazz = EVENT_MAP.get(header.getModuleId() + "_" + header.getEventType());
-        if (null == clazz) {
+        BaseEvent event = newInstance(header);
+        if (null == event) {
             return null;
         }
-        BaseEvent event;
         try {
-            event = clazz.newInstance();
+            event.parse(new NulsByteBuffer(bytes));
         } catch (Exception e) {
             Log.error(e);
-            throw new NulsException(ErrorCode.DATA_PARSE_ERROR);
+            throw e;
+        }
+        return event;
+    }
+
+    /**
+     * an empty event of the type described by the header, the caller may inspect it before parsing the body
+     */
+    public static BaseEvent newInstance(EventHeader header) throws NulsException {
+        Class<? extends BaseEvent> clazz = EVENT_MAP.get(header.getModuleId() + KEY_SPLIT + header.getEventType());
+        if (null == clazz) {
+            return null;
         }
         try {
-            event.parse(new NulsByteBuffer(bytes));
+            return clazz.newInstance();
         } catch (Exception e) {
             Log.error(e);
-            throw e;
+            throw new NulsException(ErrorCode.DATA_PARSE_ERROR);
         }
-        return event;
     }
 
     public static Map<String,Class<? extends BaseEvent>> getEventMap(){
@@ -0,0 +1,150 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2018 nuls.io
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.nuls.core.utils.crypto;
+
+import io.nuls.core.chain.entity.NulsDigestData;
+import io.nuls.core.constant.ErrorCode;
+import io.nuls.core.crypto.Sha256Hash;
+import io.nuls.core.exception.NulsRuntimeException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Builds the merkle hash of a list of digests: every pair is hashed twice over the byte reversed children,
+ * the last node of an odd level is paired with itself.
+ * Digests can be appended one by one, a pair is hashed as soon as it is complete, so build() only
+ * hashes the right edge of the tree.
+ *
+ * @author agent
+ * @date 2026/10/18
+ */
+public class MerkleHashBuilder {
+
+    /**
+     * levels with at least this many pairs are hashed in parallel
+     */
+    private static final int PARALLEL_PAIR_COUNT = 512;
+
+    /**
+     * the complete nodes of each level, kept byte reversed
+     */
+    private final List<List<byte[]>> levels = new ArrayList<>();
+
+    public MerkleHashBuilder() {
+        levels.add(new ArrayList<>());
+    }
+
+    public MerkleHashBuilder add(NulsDigestData digestData) {
+        byte[] node = Utils.reverseBytes(digestData.getDigestBytes());
+        for (int level = 0; ; level++) {
+            if (levels.size() == level) {
+                levels.add(new ArrayList<>());
+            }
+            List<byte[]> nodes = levels.get(level);
+            nodes.add(node);
+            if (nodes.size() % 2 != 0) {
+                return this;
+            }
+            node = hashPair(nodes.get(nodes.size() - 2), node);
+        }
+    }
+
+    public MerkleHashBuilder addAll(List<NulsDigestData> digestList) {
+        for (NulsDigestData digestData : digestList) {
+            this.add(digestData);
+        }
+        return this;
+    }
+
+    public int size() {
+        return levels.get(0).size();
+    }
+
+    public NulsDigestData build() {
+        if (this.size() == 0) {
+            throw new NulsRuntimeException(ErrorCode.DATA_ERROR, "no digest to build the merkle hash");
+        }
+        //the node made of the incomplete pairs on the right edge of the current level
+        byte[] tail = null;
+        for (int level = 0; ; level++) {
+            List<byte[]> nodes = level < levels.size() ? levels.get(level) : Collections.emptyList();
+            int count = nodes.size() + (null == tail ? 0 : 1);
+            if (count == 1) {
+                return toDigestData(null == tail ? nodes.get(0) : tail);
+            }
+            if (nodes.size() % 2 != 0) {
+                byte[] last = nodes.get(nodes.size() - 1);
+                tail = hashPair(last, null == tail ? last : tail);
+            } else if (null != tail) {
+                tail = hashPair(tail, tail);
+            }
+        }
+    }
+
+    /**
+     * calculate the merkle hash of the list without changing it, the large levels are hashed in parallel
+     */
+    public static NulsDigestData calcMerkleHash(List<NulsDigestData> digestList) {
+        if (null == digestList || digestList.isEmpty()) {
+            throw new NulsRuntimeException(ErrorCode.DATA_ERROR, "no digest to build the merkle hash");
+        }
+        byte[][] level = new byte[digestList.size()][];
+        for (int i = 0; i < level.length; i++) {
+            level[i] = Utils.reverseBytes(digestList.get(i).getDigestBytes());
+        }
+        while (level.length > 1) {
+            final byte[][] children = level;
+            final byte[][] parents = new byte[(children.length + 1) / 2][];
+            IntStream range = IntStream.range(0, parents.length);
+            if (parents.length >= PARALLEL_PAIR_COUNT) {
+                range = range.parallel();
+            }
+            range.forEach(i -> parents[i] = hashPair(children[2 * i], children[Math.min(2 * i + 1, children.length - 1)]));
+            level = parents;
+        }
+        return toDigestData(level[0]);
+    }
+
+    private static byte[] hashPair(byte[] left, byte[] right) {
+        byte[] hash = Sha256Hash.hashTwice(left, 0, left.length, right, 0, right.length);
+        return reverse(hash);
+    }
+
+    private static NulsDigestData toDigestData(byte[] node) {
+        return new NulsDigestData(NulsDigestData.DIGEST_ALG_SHA256, reverse(Arrays.copyOf(node, node.length)));
+    }
+
+    private static byte[] reverse(byte[] bytes) {
+        for (int i = 0, j = bytes.length - 1; i < j; i++, j--) {
+            byte b = bytes[i];
+            bytes[i] = bytes[j];
+            bytes[j] = b;
+        }
+        return bytes;
+    }
+}
@@ -38,7 +38,6 @@ import io.nuls.core.utils.crypto.Utils;
 import io.nuls.core.utils.log.Log;
 
 import java.io.UnsupportedEncodingException;
-import java.util.Arrays;
 
 /**
  * @author Niels
@@ -50,19 +49,45 @@ public class NulsByteBuffer {
 
     private int cursor;
 
+    /**
+     * where the readable range starts, resetCursor() goes back to it
+     */
+    private final int start;
+
+    /**
+     * exclusive end of the readable range, the bytes after it belong to someone else
+     */
+    private final int limit;
+
     public NulsByteBuffer(byte[] bytes) {
         this(bytes, 0);
     }
 
     public NulsByteBuffer(byte[] bytes, int cursor) {
-        if (null == bytes || bytes.length == 0 || cursor < 0) {
+        this(bytes, cursor, null == bytes ? 0 : bytes.length);
+    }
+
+    /**
+     * a view of [cursor,limit) over the shared array, nothing is copied
+     */
+    public NulsByteBuffer(byte[] bytes, int cursor, int limit) {
+        if (null == bytes || bytes.length == 0 || cursor < 0 || limit > bytes.length || cursor > limit) {
             throw new NulsRuntimeException(ErrorCode.FAILED, "create byte buffer faild!");
         }
         this.payload = bytes;
         this.cursor = cursor;
+        this.start = cursor;
+        this.limit = limit;
+    }
+
+    private void checkRemaining(int length) throws NulsException {
+        if (length < 0 || cursor + length > limit) {
+            throw new NulsException(ErrorCode.DATA_PARSE_ERROR);
+        }
     }
 
     public long readUint32LE() throws NulsException {
+        checkRemaining(4);
         try {
             long u = Utils.readUint32LE(payload, cursor);
             cursor += 4;
@@ -73,6 +98,7 @@ public class NulsByteBuffer {
     }
 
     public short readInt16LE() throws NulsException {
+        checkRemaining(2);
         try {
             short s = Utils.readInt16LE(payload, cursor);
             cursor += 2;
@@ -83,6 +109,7 @@ public class NulsByteBuffer {
     }
 
     public int readInt32LE() throws NulsException {
+        checkRemaining(4);
         try {
             int u = Utils.readInt32LE(payload, cursor);
             cursor += 4;
@@ -97,6 +124,7 @@ public class NulsByteBuffer {
     }
 
     public long readInt64() throws NulsException {
+        checkRemaining(8);
         try {
             long u = Utils.readInt64LE(payload, cursor);
             cursor += 8;
@@ -114,6 +142,7 @@ public class NulsByteBuffer {
     public long readVarInt(int offset) throws NulsException {
         try {
             VarInt varint = new VarInt(payload, cursor + offset);
+            checkRemaining(offset + varint.getOriginalSizeInBytes());
             cursor += offset + varint.getOriginalSizeInBytes();
             return varint.value;
         } catch (ArrayIndexOutOfBoundsException e) {
@@ -121,7 +150,21 @@ public class NulsByteBuffer {
         }
     }
 
+    /**
+     * read the next varint without moving the cursor
+     */
+    public long peekVarInt() throws NulsException {
+        try {
+            VarInt varint = new VarInt(payload, cursor);
+            checkRemaining(varint.getOriginalSizeInBytes());
+            return varint.value;
+        } catch (ArrayIndexOutOfBoundsException e) {
+            throw new NulsException(ErrorCode.DATA_PARSE_ERROR, e);
+        }
+    }
+
     public byte readByte() throws NulsException {
+        checkRemaining(1);
         try {
             byte b = payload[cursor];
             cursor += 1;
@@ -132,6 +175,7 @@ public class NulsByteBuffer {
     }
 
     public byte[] readBytes(int length) throws NulsException {
+        checkRemaining(length);
         try {
             byte[] b = new byte[length];
             System.arraycopy(payload, cursor, b, 0, length);
@@ -160,7 +204,7 @@ public class NulsByteBuffer {
     }
 
     public void resetCursor() {
-        this.cursor = 0;
+        this.cursor = start;
     }
 
     public short readShort() throws NulsException {
@@ -194,11 +238,19 @@ public class NulsByteBuffer {
     }
 
     public boolean isFinished() {
-        return this.payload.length == cursor;
+        return this.limit == cursor;
+    }
+
+    public int getCursor() {
+        return cursor;
+    }
+
+    public int getLimit() {
+        return limit;
     }
 
     public byte[] getPayloadByCursor() {
-        byte[] bytes = new byte[payload.length - cursor];
+        byte[] bytes = new byte[limit - cursor];
         System.arraycopy(this.payload, cursor, bytes, 0, bytes.length);
         return bytes;
     }
@@ -211,30 +263,33 @@ public class NulsByteBuffer {
         if (payload == null) {
             return null;
         }
-        int length = payload.length - cursor;
+        int length = limit - cursor;
         if (length <= 0) {
             return null;
         }
-        if (length >= 4) {
-            byte[] byte4 = new byte[4];
-            System.arraycopy(payload, cursor, byte4, 0, 4);
-            if (Arrays.equals(NulsConstant.PLACE_HOLDER, byte4)) {
-                cursor += 4;
-                return null;
-            }
+        if (length >= NulsConstant.PLACE_HOLDER.length && isPlaceHolder()) {
+            cursor += NulsConstant.PLACE_HOLDER.length;
+            return null;
         }
-        byte[] bytes = new byte[length];
-        System.arraycopy(payload, cursor, bytes, 0, length);
-        nulsData.parse(bytes);
-        cursor += nulsData.size();
+        nulsData.parseFrom(this);
         return nulsData;
     }
 
+    private boolean isPlaceHolder() {
+        for (int i = 0; i < NulsConstant.PLACE_HOLDER.length; i++) {
+            if (payload[cursor + i] != NulsConstant.PLACE_HOLDER[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public NulsSignData readSign() throws NulsException {
         return this.readNulsData(new NulsSignData());
     }
 
-    public long readInt48() {
+    public long readInt48() throws NulsException {
+        checkRemaining(6);
         long value = (payload[cursor +0] & 0xffL) |
                 ((payload[cursor +1] & 0xffL) << 8) |
                 ((payload[cursor +2] & 0xffL) << 16) |
@@ -56,19 +56,35 @@ public class NulsOutputStreamBuffer {
     }
 
     public void writeVarInt(int val) throws IOException {
-        out.write(new VarInt(val).encode());
+        this.writeVarInt((long) val);
     }
 
     public void writeVarInt(long val) throws IOException {
-        out.write(new VarInt(val).encode());
+        switch (VarInt.sizeOf(val)) {
+            case 1:
+                out.write((int) val);
+                break;
+            case 3:
+                out.write(253);
+                Utils.int16ToByteStreamLE((short) val, out);
+                break;
+            case 5:
+                out.write(254);
+                Utils.uint32ToByteStreamLE(val, out);
+                break;
+            default:
+                out.write(255);
+                Utils.int64ToByteStreamLE(val, out);
+                break;
+        }
     }
 
 
     public void writeBytesWithLength(byte[] bytes) throws IOException {
         if (null == bytes || bytes.length == 0) {
-            out.write(new VarInt(0).encode());
+            out.write(0);
         } else {
-            out.write(new VarInt(bytes.length).encode());
+            this.writeVarInt(bytes.length);
             out.write(bytes);
         }
     }
@@ -96,7 +112,7 @@ public class NulsOutputStreamBuffer {
     public void writeString(String val) {
         if (StringUtils.isBlank(val)) {
             try {
-                out.write(new VarInt(0).encode());
+                out.write(0);
             } catch (IOException e) {
                 Log.error(e);
                 throw new NulsRuntimeException(e);
@@ -115,18 +131,16 @@ public class NulsOutputStreamBuffer {
         if (null == data) {
             write(NulsConstant.PLACE_HOLDER);
         } else {
-            this.write(data.serialize());
+            data.serializeTo(this);
         }
     }
 
     public void writeInt48(long time) throws IOException {
-        byte[] bytes = new byte[Utils.sizeOfInt48()];
-        bytes[0] = (byte) (0xFF & time);
-        bytes[1] = (byte) (0xFF & (time >> 8));
-        bytes[2] = (byte) (0xFF & (time >> 16));
-        bytes[3] = (byte) (0xFF & (time >> 24));
-        bytes[4] = (byte) (0xFF & (time >> 32));
-        bytes[5] = (byte) (0xFF & (time >> 40));
-        this.write(bytes);
+        out.write((int) (0xFF & time));
+        out.write((int) (0xFF & (time >> 8)));
+        out.write((int) (0xFF & (time >> 16)));
+        out.write((int) (0xFF & (time >> 24)));
+        out.write((int) (0xFF & (time >> 32)));
+        out.write((int) (0xFF & (time >> 40)));
     }
 }
@@ -26,9 +26,8 @@ package io.nuls.core.validate;
 import io.nuls.core.chain.entity.BaseNulsData;
 import io.nuls.core.utils.log.Log;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Set;
 
 /**
@@ -37,55 +36,49 @@ import java.util.Set;
  */
 public class DataValidatorChain {
 
-    private List<NulsDataValidator<BaseNulsData>> list = new ArrayList<>();
+    private static final NulsDataValidator[] EMPTY_ARRAY = new NulsDataValidator[0];
+
+    /**
+     * replaced as a whole when a validator is added, so a running validation never sees a half built list
+     */
+    private volatile NulsDataValidator<BaseNulsData>[] validators = EMPTY_ARRAY;
     private Set<Class> classSet = new HashSet<>();
-    private ThreadLocal<Integer> index = new ThreadLocal<>();
 
     public ValidateResult startDoValidator(BaseNulsData data) {
-        if (list.isEmpty()) {
-            return ValidateResult.getSuccessResult();
-        }
-        index.set(-1);
-        ValidateResult result;
-        try {
-            result = doValidate(data);
-        } catch (Exception e) {
-            Log.error(e);
-            result = ValidateResult.getFailedResult(e.getMessage());
-        }
-        boolean b = index.get() == list.size();
-        index.remove();
-        if (b) {
-            return ValidateResult.getSuccessResult();
-        } else if (!b && result.isSuccess()) {
-            return ValidateResult.getFailedResult("The Validators not fully executed`");
+        for (NulsDataValidator<BaseNulsData> validator : validators) {
+            ValidateResult result;
+            try {
+                result = validator.validate(data);
+            } catch (Exception e) {
+                Log.error(e);
+                return ValidateResult.getFailedResult(e.getMessage());
+            }
+            if (null == result) {
+                Log.error(validator.getClass() + " has null result!");
+                return ValidateResult.getFailedResult(validator.getClass() + " has null result!");
+            }
+            if (!result.isSuccess()) {
+                return result;
+            }
         }
-        return result;
+        return ValidateResult.getSuccessResult();
     }
 
-    private ValidateResult doValidate(BaseNulsData data) {
-        index.set(1 + index.get());
-        if (index.get() == list.size()) {
-            return ValidateResult.getSuccessResult();
-        }
-        NulsDataValidator<BaseNulsData> validator = list.get(index.get());
-        ValidateResult result = validator.validate(data);
-        if (null == result) {
-            Log.error(validator.getClass() + " has null result!");
-        }
-        if (!result.isSuccess()) {
-            return result;
-        }
-        return this.doValidate(data);
-    }
-
-    public void addValidator(NulsDataValidator validator) {
+    public synchronized void addValidator(NulsDataValidator validator) {
         if (null == validator) {
             return;
         }
 
         if (classSet.add(validator.getClass())) {
-            list.add(validator);
+            NulsDataValidator[] array = Arrays.copyOf(validators, validators.length + 1);
+            array[validators.length] = validator;
+            validators = array;
+        }
+    }
+
+    public synchronized void addAll(DataValidatorChain chain) {
+        for (NulsDataValidator validator : chain.validators) {
+            this.addValidator(validator);
         }
     }
 }
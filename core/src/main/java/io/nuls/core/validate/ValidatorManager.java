@@ -29,7 +29,8 @@ package io.nuls.core.validate;
 import io.nuls.core.chain.entity.BaseNulsData;
 import io.nuls.core.constant.ErrorCode;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -39,27 +40,75 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 public class ValidatorManager {
 
+    /**
+     * the validators registered for each class itself
+     */
     private static Map<Class, DataValidatorChain> chainMap = new ConcurrentHashMap<>();
 
+    /**
+     * the validators of a class and all of its super classes, super classes first, built on the first validation
+     */
+    private static Map<Class, DataValidatorChain> resolvedMap = new ConcurrentHashMap<>();
 
-    public static void addValidator(Class<? extends BaseNulsData> clazz, NulsDataValidator<? extends BaseNulsData> validator) {
+    /**
+     * register a validator for the class and all of its sub classes
+     *
+     * @param clazz
+     * @param validator
+     */
+    public static synchronized void addValidator(Class<? extends BaseNulsData> clazz, NulsDataValidator<? extends BaseNulsData> validator) {
         DataValidatorChain chain = chainMap.get(clazz);
         if (null == chain) {
             chain = new DataValidatorChain();
             chainMap.put(clazz, chain);
         }
         chain.addValidator(validator);
+        resolvedMap.clear();
+    }
+
+    /**
+     * replace the validators registered for the class itself, in the given order
+     *
+     * @param clazz
+     * @param validatorList
+     */
+    public static synchronized void setValidators(Class<? extends BaseNulsData> clazz, List<NulsDataValidator> validatorList) {
+        DataValidatorChain chain = new DataValidatorChain();
+        for (NulsDataValidator validator : validatorList) {
+            chain.addValidator(validator);
+        }
+        chainMap.put(clazz, chain);
+        resolvedMap.clear();
     }
 
     public static ValidateResult startDoValidator(BaseNulsData data) {
         if (data == null) {
             return ValidateResult.getFailedResult(ErrorCode.NULL_PARAMETER);
         }
-        DataValidatorChain chain = chainMap.get(data.getClass());
+        DataValidatorChain chain = resolvedMap.get(data.getClass());
         if (null == chain) {
-            return ValidateResult.getSuccessResult();
+            chain = resolve(data.getClass());
         }
         return chain.startDoValidator(data);
     }
-}
 
+    private static synchronized DataValidatorChain resolve(Class clazz) {
+        DataValidatorChain chain = resolvedMap.get(clazz);
+        if (null != chain) {
+            return chain;
+        }
+        List<Class> classList = new ArrayList<>();
+        for (Class c = clazz; null != c && BaseNulsData.class.isAssignableFrom(c); c = c.getSuperclass()) {
+            classList.add(0, c);
+        }
+        chain = new DataValidatorChain();
+        for (Class c : classList) {
+            DataValidatorChain classChain = chainMap.get(c);
+            if (null != classChain) {
+                chain.addAll(classChain);
+            }
+        }
+        resolvedMap.put(clazz, chain);
+        return chain;
+    }
+}
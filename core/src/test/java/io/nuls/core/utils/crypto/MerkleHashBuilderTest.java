@@ -0,0 +1,111 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2018 nuls.io
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.nuls.core.utils.crypto;
+
+import io.nuls.core.chain.entity.NulsDigestData;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent
+ * @date 2026/10/18
+ */
+public class MerkleHashBuilderTest {
+
+    @Test
+    public void singleDigest() {
+        check(1);
+    }
+
+    @Test
+    public void oddCountAtEachLevel() {
+        //7: 7,4,2  11: 11,6,3,2  13: 13,7,4,2  21: 21,11,6,3,2
+        int[] counts = {2, 3, 5, 6, 7, 11, 13, 21, 64, 65};
+        for (int count : counts) {
+            check(count);
+        }
+    }
+
+    @Test
+    public void parallelLevels() {
+        //1025 and 2047 digests have 513 and 1024 pairs on the first level
+        check(1025);
+        check(2047);
+    }
+
+    @Test
+    public void inputUnchanged() {
+        List<NulsDigestData> list = digestList(9);
+        List<NulsDigestData> copy = new ArrayList<>(list);
+        MerkleHashBuilder.calcMerkleHash(list);
+        assertEquals(copy, list);
+    }
+
+    private void check(int count) {
+        List<NulsDigestData> list = digestList(count);
+        NulsDigestData expected = oldMerkleHash(new ArrayList<>(list));
+
+        NulsDigestData merkleHash = MerkleHashBuilder.calcMerkleHash(list);
+        assertArrayEquals("count " + count, expected.getDigestBytes(), merkleHash.getDigestBytes());
+
+        MerkleHashBuilder builder = new MerkleHashBuilder();
+        for (NulsDigestData digestData : list) {
+            builder.add(digestData);
+        }
+        assertEquals(count, builder.size());
+        assertArrayEquals("count " + count, expected.getDigestBytes(), builder.build().getDigestBytes());
+    }
+
+    private List<NulsDigestData> digestList(int count) {
+        List<NulsDigestData> list = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            list.add(NulsDigestData.calcDigestData(("tx" + i).getBytes()));
+        }
+        return list;
+    }
+
+    /**
+     * the algorithm NulsDigestData.calcMerkleDigestData used before, it appends the levels to the list
+     */
+    private NulsDigestData oldMerkleHash(List<NulsDigestData> ddList) {
+        int levelOffset = 0;
+        for (int levelSize = ddList.size(); levelSize > 1; levelSize = (levelSize + 1) / 2) {
+            for (int left = 0; left < levelSize; left += 2) {
+                int right = Math.min(left + 1, levelSize - 1);
+                byte[] leftBytes = Utils.reverseBytes(ddList.get(levelOffset + left).getDigestBytes());
+                byte[] rightBytes = Utils.reverseBytes(ddList.get(levelOffset + right).getDigestBytes());
+                byte[] whole = new byte[leftBytes.length + rightBytes.length];
+                System.arraycopy(leftBytes, 0, whole, 0, leftBytes.length);
+                System.arraycopy(rightBytes, 0, whole, leftBytes.length, rightBytes.length);
+                ddList.add(NulsDigestData.calcDigestData(whole));
+            }
+            levelOffset += levelSize;
+        }
+        return ddList.get(ddList.size() - 1);
+    }
+}
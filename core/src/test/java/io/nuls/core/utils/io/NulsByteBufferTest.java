@@ -0,0 +1,115 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2018 nuls.io
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.nuls.core.utils.io;
+
+import io.nuls.core.exception.NulsException;
+import io.nuls.core.exception.NulsRuntimeException;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent
+ * @date 2026/10/18
+ */
+public class NulsByteBufferTest {
+
+    /**
+     * a length prefixed array 1,2,3 and a byte 9, between bytes that belong to other data
+     */
+    private static final byte[] BYTES = {7, 7, 3, 1, 2, 3, 9, 7, 7};
+
+    @Test
+    public void limit() throws NulsException {
+        NulsByteBuffer buffer = new NulsByteBuffer(BYTES, 2, 7);
+        assertEquals(2, buffer.getCursor());
+        assertEquals(7, buffer.getLimit());
+        assertArrayEquals(new byte[]{1, 2, 3}, buffer.readByLengthByte());
+        assertFalse(buffer.isFinished());
+        assertEquals(9, buffer.readByte());
+        assertTrue(buffer.isFinished());
+    }
+
+    @Test(expected = NulsException.class)
+    public void readPastLimit() throws NulsException {
+        NulsByteBuffer buffer = new NulsByteBuffer(BYTES, 2, 7);
+        buffer.readBytes(4);
+        //the array goes on but the view ends here
+        buffer.readBytes(2);
+    }
+
+    @Test
+    public void checkRemaining() {
+        NulsByteBuffer buffer = new NulsByteBuffer(BYTES, 2, 5);
+        try {
+            buffer.readByLengthByte();
+            fail("the length prefix points past the limit");
+        } catch (NulsException e) {
+            //only the length prefix is read
+            assertEquals(3, buffer.getCursor());
+        }
+        try {
+            buffer.readBytes(-1);
+            fail("a negative length is not a range");
+        } catch (NulsException e) {
+            assertEquals(3, buffer.getCursor());
+        }
+        try {
+            buffer.readInt32LE();
+            fail("only 2 bytes are left");
+        } catch (NulsException e) {
+            assertEquals(3, buffer.getCursor());
+        }
+    }
+
+    @Test(expected = NulsRuntimeException.class)
+    public void limitPastArray() {
+        new NulsByteBuffer(BYTES, 0, BYTES.length + 1);
+    }
+
+    @Test
+    public void peekVarInt() throws NulsException {
+        NulsByteBuffer buffer = new NulsByteBuffer(BYTES, 2, 7);
+        assertEquals(3, buffer.peekVarInt());
+        assertEquals(2, buffer.getCursor());
+        assertEquals(3, buffer.readVarInt());
+        assertEquals(3, buffer.getCursor());
+    }
+
+    @Test(expected = NulsException.class)
+    public void peekVarIntPastLimit() throws NulsException {
+        //0xfd is followed by a 2 byte value, which is behind the limit
+        byte[] bytes = {(byte) 0xfd, 1, 0};
+        new NulsByteBuffer(bytes, 0, 2).peekVarInt();
+    }
+
+    @Test
+    public void resetCursor() throws NulsException {
+        NulsByteBuffer buffer = new NulsByteBuffer(BYTES, 2, 7);
+        buffer.readBytes(3);
+        buffer.resetCursor();
+        assertEquals(2, buffer.getCursor());
+        assertArrayEquals(new byte[]{1, 2, 3}, buffer.readByLengthByte());
+    }
+}
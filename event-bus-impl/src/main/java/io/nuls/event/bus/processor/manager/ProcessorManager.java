@@ -25,6 +25,7 @@ package io.nuls.event.bus.processor.manager;
 
 import io.nuls.core.constant.ErrorCode;
 import io.nuls.core.constant.NulsConstant;
+import io.nuls.core.context.NulsContext;
 import io.nuls.core.event.BaseEvent;
 import io.nuls.core.event.EventManager;
 import io.nuls.core.exception.NulsRuntimeException;
@@ -50,24 +51,46 @@ import java.util.concurrent.*;
  * @date 2017/11/6
  */
 public class ProcessorManager<E extends io.nuls.core.event.BaseEvent, H extends NulsEventHandler<? extends BaseEvent>> {
-    private final Map<String, H> handlerMap = new HashMap<>();
-    private final Map<Class, Set<String>> eventHandlerMapping = new HashMap<>();
+    private final Map<String, H> handlerMap = new ConcurrentHashMap<>();
+    private final Map<Class, Set<String>> eventHandlerMapping = new ConcurrentHashMap<>();
+    /**
+     * the handlers of each event class including the handlers of its super classes, cleared when a handler changes
+     */
+    private final Map<Class, NulsEventHandler[]> handlerTable = new ConcurrentHashMap<>();
     private DisruptorUtil<DisruptorEvent<ProcessData<E>>> disruptorService = DisruptorUtil.getInstance();
-    private ExecutorService pool;
     private String disruptorName;
+    private String cfgPrefix;
+    /**
+     * runs the handlers which neither dispatch directly nor have a pool of their own,
+     * so a handler waiting on a peer or the db never holds a ring buffer consumer
+     */
+    private ExecutorService pool;
 
-    public ProcessorManager(String disruptorName) {
+    /**
+     * @param disruptorName the name of the ring buffer
+     * @param cfgPrefix     the prefix of the ring settings in the event-bus section of the module configuration
+     */
+    public ProcessorManager(String disruptorName, String cfgPrefix) {
         this.disruptorName = disruptorName;
+        this.cfgPrefix = cfgPrefix;
         this.init();
     }
 
     public final void init() {
+        int ringBufferSize = getCfgValue(EventBusConstant.CFG_RING_BUFFER_SIZE, EventBusConstant.DEFAULT_RING_BUFFER_SIZE);
+        String waitStrategy = getCfgValue(EventBusConstant.CFG_WAIT_STRATEGY, EventBusConstant.DEFAULT_WAIT_STRATEGY);
+        int consumerCount = getCfgValue(EventBusConstant.CFG_CONSUMER_COUNT, EventBusConstant.THREAD_COUNT);
+        //without a consumer the ring fills up and every publisher blocks
+        if (consumerCount < 1) {
+            Log.warn(cfgPrefix + "." + EventBusConstant.CFG_CONSUMER_COUNT + " is " + consumerCount + ", use 1 instead");
+            consumerCount = 1;
+        }
 
-        pool = TaskManager.createThreadPool(EventBusConstant.THREAD_COUNT,0,
-                new NulsThreadFactory(NulsConstant.MODULE_ID_EVENT_BUS, EventBusConstant.THREAD_POOL_NAME));
-        disruptorService.createDisruptor(disruptorName, EventBusConstant.DEFAULT_RING_BUFFER_SIZE);
+        pool = TaskManager.createThreadPool(EventBusConstant.THREAD_COUNT, 0,
+                new NulsThreadFactory(NulsConstant.MODULE_ID_EVENT_BUS, EventBusConstant.THREAD_POOL_NAME + "-" + cfgPrefix));
+        disruptorService.createDisruptor(disruptorName, ringBufferSize, DisruptorUtil.createWaitStrategy(waitStrategy));
         List<EventDispatchThread> handlerList = new ArrayList<>();
-        for (int i = 0; i < EventBusConstant.THREAD_COUNT; i++) {
+        for (int i = 0; i < consumerCount; i++) {
             EventDispatchThread handler = new EventDispatchThread(this);
             handlerList.add(handler);
         }
@@ -76,8 +99,16 @@ public class ProcessorManager<E extends io.nuls.core.event.BaseEvent, H extends
     }
 
 
+    private <T> T getCfgValue(String key, T defaultValue) {
+        if (null == NulsContext.MODULES_CONFIG) {
+            return defaultValue;
+        }
+        return NulsContext.MODULES_CONFIG.getCfgValue(EventBusConstant.CFG_EVENT_BUS_SECTION, cfgPrefix + "." + key, defaultValue);
+    }
+
     public void shutdown() {
         disruptorService.shutdown(disruptorName);
+        pool.shutdown();
     }
 
     public void offer(ProcessData<E> data) {
@@ -85,7 +116,7 @@ public class ProcessorManager<E extends io.nuls.core.event.BaseEvent, H extends
         disruptorService.offer(disruptorName, data);
     }
 
-    public String registerEventHandler(String handlerId, Class<E> eventClass, H handler) {
+    public synchronized String registerEventHandler(String handlerId, Class<E> eventClass, H handler) {
         EventManager.putEvent(eventClass);
         AssertUtil.canNotEmpty(eventClass, "registerEventHandler faild");
         AssertUtil.canNotEmpty(handler, "registerEventHandler faild");
@@ -94,26 +125,39 @@ public class ProcessorManager<E extends io.nuls.core.event.BaseEvent, H extends
         }
         handlerMap.put(handlerId, handler);
         cacheHandlerMapping(eventClass, handlerId);
+        handlerTable.clear();
         return handlerId;
     }
 
     private void cacheHandlerMapping(Class<E> eventClass, String handlerId) {
 
-        Set<String> ids = eventHandlerMapping.get(eventClass);
-        if (null == ids) {
-            ids = new HashSet<>();
-        }
+        Set<String> ids = eventHandlerMapping.computeIfAbsent(eventClass, key -> ConcurrentHashMap.newKeySet());
 //        boolean b =
         ids.add(handlerId);
-        eventHandlerMapping.put(eventClass, ids);
 //        if (!b) {
 //            throw new NulsRuntimeException(ErrorCode.FAILED, "registerEventHandler faild");
 //        }
 //        cacheHandlerMapping((Class<E>) eventClass.getSuperclass(), handlerId);
     }
 
-    public void removeEventHandler(String handlerId) {
+    public synchronized void removeEventHandler(String handlerId) {
         handlerMap.remove(handlerId);
+        handlerTable.clear();
+    }
+
+    private NulsEventHandler[] getHandlers(Class<E> clazz) {
+        NulsEventHandler[] handlers = handlerTable.get(clazz);
+        if (null == handlers) {
+            handlers = this.resolveHandlers(clazz);
+        }
+        return handlers;
+    }
+
+    private synchronized NulsEventHandler[] resolveHandlers(Class<E> clazz) {
+        Set<NulsEventHandler> set = this.getHandlerList(clazz);
+        NulsEventHandler[] handlers = set.toArray(new NulsEventHandler[set.size()]);
+        handlerTable.put(clazz, handlers);
+        return handlers;
     }
 
     private Set<NulsEventHandler> getHandlerList(Class<E> clazz) {
@@ -145,9 +189,17 @@ public class ProcessorManager<E extends io.nuls.core.event.BaseEvent, H extends
         if (null == data) {
             throw new NulsRuntimeException(ErrorCode.FAILED, "execute event handler faild,the event is null!");
         }
-        Set<NulsEventHandler> handlerSet = this.getHandlerList((Class<E>) data.getData().getClass());
-        for (NulsEventHandler handler : handlerSet) {
-            pool.execute(new NulsEventCall(data, handler));
+        NulsEventHandler[] handlers = this.getHandlers((Class<E>) data.getData().getClass());
+        for (NulsEventHandler handler : handlers) {
+            if (handler.isDirectDispatch()) {
+                NulsEventCall.execute(data, handler);
+                continue;
+            }
+            ExecutorService executor = handler.getExecutor();
+            if (null == executor) {
+                executor = pool;
+            }
+            executor.execute(new NulsEventCall(data, handler));
         }
     }
 }
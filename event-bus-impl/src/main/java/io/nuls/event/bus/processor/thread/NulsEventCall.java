@@ -42,6 +42,10 @@ public class NulsEventCall<T extends io.nuls.core.event.BaseEvent> implements Ru
 
     @Override
     public void run() {
+        execute(data, handler);
+    }
+
+    public static <T extends io.nuls.core.event.BaseEvent> void execute(ProcessData<T> data, NulsEventHandler<T> handler) {
         if (null == data || null == handler) {
             return;
         }
@@ -56,6 +60,5 @@ public class NulsEventCall<T extends io.nuls.core.event.BaseEvent> implements Ru
         } catch (Exception e) {
             Log.error(e);
         }
-        return;
     }
 }
@@ -24,6 +24,7 @@
 package io.nuls.event.bus.service.impl;
 
 import io.nuls.core.event.BaseEvent;
+import io.nuls.core.event.EventHeader;
 import io.nuls.core.event.EventManager;
 import io.nuls.core.exception.NulsException;
 import io.nuls.core.utils.log.Log;
@@ -92,6 +93,15 @@ public class EventBusServiceImpl implements EventBusService {
         }
     }
 
+    @Override
+    public void publishNetworkEvent(EventHeader header, byte[] bytes, String fromId) {
+        try {
+            networkService.publish(header, bytes, fromId);
+        } catch (Exception e) {
+            Log.error(e);
+        }
+    }
+
     @Override
     public void publishNetworkEvent(BaseEvent event, String fromId) {
         try {
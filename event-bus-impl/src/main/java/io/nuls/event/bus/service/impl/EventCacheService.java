@@ -24,6 +24,7 @@
 package io.nuls.event.bus.service.impl;
 
 import io.nuls.cache.service.intf.CacheService;
+import io.nuls.core.chain.entity.NulsDigestKey;
 import io.nuls.core.context.NulsContext;
 import io.nuls.core.event.BaseEvent;
 
@@ -53,22 +54,31 @@ public class EventCacheService {
     }
 
     public void cacheSendedEvent(BaseEvent event) {
-        this.cacheService.putElement(CACHE_OF_SENDED, event.getHash().getDigestHex(), event);
+        this.cacheService.putElement(CACHE_OF_SENDED, event.getHash().getDigestKey(), event);
     }
 
-    public void cacheRecievedEventHash(String hashHex) {
-        this.cacheService.putElement(CACHE_OF_SENDED, hashHex, 1);
+    /**
+     * remember the hash of a received event, checked and put at once so two copies of an event
+     * arriving together are not both taken as new
+     *
+     * @return false if the event was sent or received before
+     */
+    public boolean cacheRecievedEventHash(NulsDigestKey hashKey) {
+        if (this.cacheService.containsKey(CACHE_OF_SENDED, hashKey)) {
+            return false;
+        }
+        return this.cacheService.putElementIfAbsent(CACHE_OF_RECIEVED, hashKey, 1);
     }
 
-    public boolean isKnown(String hashHex) {
-        return this.cacheService.containsKey(CACHE_OF_RECIEVED, hashHex) ||
-                this.cacheService.containsKey(CACHE_OF_SENDED, hashHex);
+    public boolean isKnown(NulsDigestKey hashKey) {
+        return this.cacheService.containsKey(CACHE_OF_RECIEVED, hashKey) ||
+                this.cacheService.containsKey(CACHE_OF_SENDED, hashKey);
     }
 
-    public BaseEvent getEvent(String hashHex) {
-        Object obj = this.cacheService.getElement(CACHE_OF_SENDED, hashHex);
+    public BaseEvent getEvent(NulsDigestKey hashKey) {
+        Object obj = this.cacheService.getElement(CACHE_OF_SENDED, hashKey);
         if(obj instanceof Integer){
-            this.cacheService.removeElement(CACHE_OF_SENDED,hashHex);
+            this.cacheService.removeElement(CACHE_OF_SENDED,hashKey);
             return null;
         }
         return (BaseEvent) obj;
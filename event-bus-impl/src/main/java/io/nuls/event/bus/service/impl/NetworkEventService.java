@@ -24,6 +24,7 @@
 package io.nuls.event.bus.service.impl;
 
 import io.nuls.core.event.BaseEvent;
+import io.nuls.core.event.EventHeader;
 import io.nuls.core.event.EventManager;
 import io.nuls.core.exception.NulsException;
 import io.nuls.core.utils.log.Log;
@@ -43,7 +44,7 @@ public class NetworkEventService {
     private final ProcessorManager processorManager;
 
     private NetworkEventService() {
-        this.processorManager = new ProcessorManager(EventBusConstant.DISRUPTOR_NAME_NETWORK);
+        this.processorManager = new ProcessorManager(EventBusConstant.DISRUPTOR_NAME_NETWORK, EventBusConstant.CFG_PREFIX_NETWORK);
     }
 
     public static NetworkEventService getInstance() {
@@ -51,8 +52,28 @@ public class NetworkEventService {
     }
 
     public void publish(byte[] event, String nodeId) {
+        EventHeader header = new EventHeader();
         try {
-            BaseEvent eventObject = EventManager.getInstance(event);
+            header.parse(event);
+        } catch (NulsException e) {
+            Log.error(e);
+            return;
+        }
+        this.publish(header, event, nodeId);
+    }
+
+    /**
+     * publish an event whose header is already parsed by the caller
+     */
+    public void publish(EventHeader header, byte[] event, String nodeId) {
+        try {
+            BaseEvent eventObject = EventManager.newInstance(header);
+            if (null == eventObject) {
+                Log.warn("unknown event,module:" + header.getModuleId() + ",eventType:" + header.getEventType() + ",node:" + nodeId);
+                return;
+            }
+            //dedup on the hash of the parsed event, so trailing bytes can't make a relayed event look new
+            eventObject.parse(event);
             this.publish(eventObject, nodeId);
         } catch (NulsException e) {
             Log.error(e);
@@ -61,10 +82,10 @@ public class NetworkEventService {
     }
 
     public void publish(BaseEvent event, String nodeId) {
-        boolean exist = eventCacheService.isKnown(event.getHash().getDigestHex() );
-        eventCacheService.cacheRecievedEventHash(event.getHash().getDigestHex() );
+        if (event.isRelayEvent() && !eventCacheService.cacheRecievedEventHash(event.getHash().getDigestKey())) {
+            return;
+        }
         processorManager.offer(new ProcessData(event, nodeId));
-
     }
 
     public String registerEventHandler(Class<? extends BaseEvent> eventClass, AbstractEventHandler<? extends BaseEvent> handler) {
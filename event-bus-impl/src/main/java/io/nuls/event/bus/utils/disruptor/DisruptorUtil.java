@@ -35,8 +35,8 @@ import io.nuls.core.utils.param.AssertUtil;
 import io.nuls.event.bus.module.impl.EventBusModuleBootstrap;
 import io.nuls.event.bus.processor.manager.ProcessData;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * @author Niels
@@ -44,7 +44,7 @@ import java.util.Map;
  */
 public class DisruptorUtil<T extends DisruptorEvent> {
     private static final DisruptorUtil INSTANCE = new DisruptorUtil();
-    private static final Map<String, Disruptor<DisruptorEvent>> DISRUPTOR_MAP = new HashMap<>();
+    private static final Map<String, Disruptor<DisruptorEvent>> DISRUPTOR_MAP = new ConcurrentHashMap<>();
 
     public static DisruptorUtil getInstance() {
         return INSTANCE;
@@ -67,13 +67,28 @@ public class DisruptorUtil<T extends DisruptorEvent> {
      * @param ringBufferSize The size of ringBuffer
      */
     public void createDisruptor(String name, int ringBufferSize) {
-        if (DISRUPTOR_MAP.keySet().contains(name)) {
-            throw new NulsRuntimeException(ErrorCode.FAILED, "create disruptor faild,the name is repetitive!");
-        }
+        this.createDisruptor(name, ringBufferSize, new BlockingWaitStrategy());
+    }
 
+    /**
+     * create a disruptor which can be published to from any thread
+     *
+     * @param name           The title of the disruptor
+     * @param ringBufferSize The size of ringBuffer, rounded up to a power of 2
+     * @param waitStrategy   how the consumers wait for new events
+     */
+    public void createDisruptor(String name, int ringBufferSize, WaitStrategy waitStrategy) {
+        int size = ringBufferSize;
+        if (Integer.bitCount(size) != 1) {
+            size = size <= 1 ? 1 : Integer.highestOneBit(size - 1) << 1;
+            Log.warn("the ring buffer size of " + name + " should be a power of 2, use " + size);
+        }
         Disruptor<DisruptorEvent> disruptor = new Disruptor<DisruptorEvent>(EVENT_FACTORY,
-                ringBufferSize, new NulsThreadFactory(ModuleService.getInstance().getModuleId(EventBusModuleBootstrap.class), name), ProducerType.SINGLE,
-                new BlockingWaitStrategy());
+                size, new NulsThreadFactory(ModuleService.getInstance().getModuleId(EventBusModuleBootstrap.class), name), ProducerType.MULTI,
+                waitStrategy);
+        if (null != DISRUPTOR_MAP.putIfAbsent(name, disruptor)) {
+            throw new NulsRuntimeException(ErrorCode.FAILED, "create disruptor faild,the name is repetitive!");
+        }
         //SleepingWaitStrategy
 //        disruptor.handleEventsWith(new EventHandler<DisruptorEvent>() {
 //            @Override
@@ -81,7 +96,22 @@ public class DisruptorUtil<T extends DisruptorEvent> {
 //                Log.debug(disruptorEvent.getData() + "");
 //            }
 //        });
-        DISRUPTOR_MAP.put(name, disruptor);
+    }
+
+    /**
+     * @param name blocking, sleeping, yielding or busy-spin
+     */
+    public static WaitStrategy createWaitStrategy(String name) {
+        if ("sleeping".equalsIgnoreCase(name)) {
+            return new SleepingWaitStrategy();
+        } else if ("yielding".equalsIgnoreCase(name)) {
+            return new YieldingWaitStrategy();
+        } else if ("busy-spin".equalsIgnoreCase(name)) {
+            return new BusySpinWaitStrategy();
+        } else if (!"blocking".equalsIgnoreCase(name)) {
+            Log.warn("unknown wait strategy:" + name + ", use blocking");
+        }
+        return new BlockingWaitStrategy();
     }
 
     /**
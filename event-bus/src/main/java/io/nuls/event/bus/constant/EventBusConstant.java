@@ -35,6 +35,18 @@ public interface EventBusConstant {
     int THREAD_COUNT = 2*Runtime.getRuntime().availableProcessors();
     String THREAD_POOL_NAME = "nuls-processor-dispatcher";
     int DEFAULT_RING_BUFFER_SIZE = 1 << 20;
+    String DEFAULT_WAIT_STRATEGY = "blocking";
+
+    /**
+     * the ring of each processor can be configured in the event-bus section,
+     * e.g. network.ring.buffer.size=1048576, network.wait.strategy=yielding, network.consumer.count=8
+     */
+    String CFG_EVENT_BUS_SECTION = "event-bus";
+    String CFG_PREFIX_LOCAL = "local";
+    String CFG_PREFIX_NETWORK = "network";
+    String CFG_RING_BUFFER_SIZE = "ring.buffer.size";
+    String CFG_WAIT_STRATEGY = "wait.strategy";
+    String CFG_CONSUMER_COUNT = "consumer.count";
 
 
 }
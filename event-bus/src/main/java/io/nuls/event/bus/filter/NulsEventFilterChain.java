@@ -38,6 +38,9 @@ public class NulsEventFilterChain {
     private ThreadLocal<Integer> index = new ThreadLocal<>();
 
     public boolean startDoFilter(BaseEvent event) {
+        if (list.isEmpty()) {
+            return true;
+        }
         index.set(-1);
         doFilter(event);
         boolean result = index.get() == list.size();
@@ -28,6 +28,8 @@ import io.nuls.event.bus.filter.NulsEventFilter;
 import io.nuls.event.bus.filter.NulsEventFilterChain;
 import io.nuls.event.bus.handler.intf.NulsEventHandler;
 
+import java.util.concurrent.ExecutorService;
+
 /**
  *
  * @author Niels
@@ -37,6 +39,10 @@ public abstract class AbstractEventHandler<T extends BaseEvent> implements NulsE
 
     private NulsEventFilterChain filterChain = new NulsEventFilterChain();
 
+    private ExecutorService executor;
+
+    private boolean directDispatch;
+
     @Override
     public void addFilter(NulsEventFilter<T> filter) {
         filterChain.addFilter(filter);
@@ -46,4 +52,28 @@ public abstract class AbstractEventHandler<T extends BaseEvent> implements NulsE
     public NulsEventFilterChain getFilterChain() {
         return filterChain;
     }
+
+    @Override
+    public ExecutorService getExecutor() {
+        return executor;
+    }
+
+    /**
+     * run this handler on its own pool, for the handlers which block
+     */
+    public void setExecutor(ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    @Override
+    public boolean isDirectDispatch() {
+        return directDispatch;
+    }
+
+    /**
+     * skip the dispatch pool, for the handlers which only hand the event to memory
+     */
+    public void setDirectDispatch(boolean directDispatch) {
+        this.directDispatch = directDispatch;
+    }
 }
@@ -28,6 +28,8 @@ import io.nuls.core.exception.NulsException;
 import io.nuls.event.bus.filter.NulsEventFilter;
 import io.nuls.event.bus.filter.NulsEventFilterChain;
 
+import java.util.concurrent.ExecutorService;
+
 /**
  * @author Niels
  * @date 2017/11/15
@@ -43,4 +45,15 @@ public interface NulsEventHandler<T extends BaseEvent> {
      * @param fromId hash of the node who send this event!
      */
     void onEvent(T event, String fromId) throws NulsException;
+
+    /**
+     * @return the pool to run this handler on, null to run it on the default dispatch pool
+     */
+    ExecutorService getExecutor();
+
+    /**
+     * @return true to run this handler on the thread which takes the event off the ring buffer,
+     * only for handlers which never wait on the network or the db
+     */
+    boolean isDirectDispatch();
 }
@@ -24,6 +24,7 @@
 package io.nuls.event.bus.service.intf;
 
 import io.nuls.core.event.BaseEvent;
+import io.nuls.core.event.EventHeader;
 import io.nuls.core.exception.NulsException;
 import io.nuls.event.bus.constant.EventCategoryEnum;
 import io.nuls.event.bus.handler.intf.NulsEventHandler;
@@ -47,6 +48,11 @@ public interface EventBusService {
 
     void publishNetworkEvent(byte[] bytes, String fromId);
 
+    /**
+     * publish the bytes of a network event whose header is already parsed
+     */
+    void publishNetworkEvent(EventHeader header, byte[] bytes, String fromId);
+
     void publishNetworkEvent(BaseEvent event, String fromId);
 
     void publishLocalEvent(BaseEvent event);
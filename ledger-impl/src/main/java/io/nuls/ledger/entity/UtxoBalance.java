@@ -24,6 +24,7 @@
 package io.nuls.ledger.entity;
 
 import io.nuls.core.chain.entity.Na;
+import io.nuls.core.chain.entity.NulsDigestKey;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -63,7 +64,7 @@ public class UtxoBalance extends Balance {
         this.unSpends.add(unSpend);
     }
 
-    public UtxoOutput removeUnSpend(String key) {
+    public UtxoOutput removeUnSpend(NulsDigestKey key) {
         for (int i = 0; i < unSpends.size(); i++) {
             UtxoOutput output = unSpends.get(i);
             if (key.equals(output.getKey())) {
@@ -74,7 +75,7 @@ public class UtxoBalance extends Balance {
         return null;
     }
 
-    public boolean containsSpend(String key) {
+    public boolean containsSpend(NulsDigestKey key) {
         for (int i = 0; i < unSpends.size(); i++) {
             UtxoOutput output = unSpends.get(i);
             if (key.equals(output.getKey())) {
@@ -25,6 +25,7 @@ package io.nuls.ledger.entity;
 
 import io.nuls.core.chain.entity.BaseNulsData;
 import io.nuls.core.chain.entity.NulsDigestData;
+import io.nuls.core.chain.entity.NulsDigestKey;
 import io.nuls.core.chain.entity.NulsSignData;
 import io.nuls.core.chain.entity.Transaction;
 import io.nuls.core.context.NulsContext;
@@ -33,7 +34,6 @@ import io.nuls.core.exception.NulsException;
 import io.nuls.core.utils.crypto.Utils;
 import io.nuls.core.utils.io.NulsByteBuffer;
 import io.nuls.core.utils.io.NulsOutputStreamBuffer;
-import io.nuls.core.utils.str.StringUtils;
 import io.nuls.db.dao.UtxoOutputDataService;
 import io.nuls.db.entity.UtxoOutputPo;
 import io.nuls.ledger.service.impl.LedgerCacheService;
@@ -61,8 +61,8 @@ public class UtxoInput extends BaseNulsData {
 
     private UtxoOutput from;
 
-    // key = fromHash + "-" + fromIndex, a key that will not be serialized, only used for caching
-    private String key;
+    // key = fromHash + fromIndex, a key that will not be serialized, only used for caching
+    private NulsDigestKey key;
 
 
     public UtxoInput() {
@@ -153,14 +153,14 @@ public class UtxoInput extends BaseNulsData {
         this.fromIndex = fromIndex;
     }
 
-    public String getKey() {
-        if (StringUtils.isBlank(key)) {
-            key = fromHash.getDigestHex() + "-" + fromIndex;
+    public NulsDigestKey getKey() {
+        if (null == key) {
+            key = NulsDigestKey.of(fromHash, fromIndex);
         }
         return key;
     }
 
-    public void setKey(String key) {
+    public void setKey(NulsDigestKey key) {
         this.key = key;
     }
 
@@ -26,6 +26,7 @@ package io.nuls.ledger.entity;
 import io.nuls.account.entity.Address;
 import io.nuls.core.chain.entity.BaseNulsData;
 import io.nuls.core.chain.entity.NulsDigestData;
+import io.nuls.core.chain.entity.NulsDigestKey;
 import io.nuls.core.chain.entity.Transaction;
 import io.nuls.core.context.NulsContext;
 import io.nuls.core.crypto.VarInt;
@@ -34,7 +35,6 @@ import io.nuls.core.script.P2PKHScript;
 import io.nuls.core.utils.crypto.Utils;
 import io.nuls.core.utils.io.NulsByteBuffer;
 import io.nuls.core.utils.io.NulsOutputStreamBuffer;
-import io.nuls.core.utils.str.StringUtils;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -66,8 +66,8 @@ public class UtxoOutput extends BaseNulsData implements Comparable<UtxoOutput> {
 
     private int txType;
 
-    // key = txHash + "-" + index, a key that will not be serialized, only used for caching
-    private String key;
+    // key = txHash + index, a key that will not be serialized, only used for caching
+    private NulsDigestKey key;
 
 
     public UtxoOutput() {
@@ -167,14 +167,14 @@ public class UtxoOutput extends BaseNulsData implements Comparable<UtxoOutput> {
         this.status = status;
     }
 
-    public String getKey() {
-        if (StringUtils.isBlank(key)) {
-            key = this.getTxHash().getDigestHex() + "-" + index;
+    public NulsDigestKey getKey() {
+        if (null == key) {
+            key = NulsDigestKey.of(this.getTxHash(), index);
         }
         return key;
     }
 
-    public void setKey(String key) {
+    public void setKey(NulsDigestKey key) {
         this.key = key;
     }
 
@@ -24,6 +24,7 @@
 package io.nuls.ledger.service.impl;
 
 import io.nuls.cache.service.intf.CacheService;
+import io.nuls.core.chain.entity.NulsDigestKey;
 import io.nuls.core.context.NulsContext;
 import io.nuls.core.utils.str.StringUtils;
 import io.nuls.ledger.constant.LedgerConstant;
@@ -33,6 +34,7 @@ import io.nuls.ledger.entity.UtxoBalance;
 import io.nuls.ledger.entity.UtxoOutput;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -46,7 +48,8 @@ public class
 LedgerCacheService {
     private static LedgerCacheService instance = new LedgerCacheService();
     private CacheService<String, Balance> cacheService;
-    private CacheService<String, UtxoOutput> utxoCacheService;
+    private CacheService<NulsDigestKey, UtxoOutput> utxoCacheService;
+    private CacheService<NulsDigestKey, byte[]> signCacheService;
 
 
     private LedgerCacheService() {
@@ -54,6 +57,8 @@ LedgerCacheService {
         cacheService.createCache(LedgerConstant.STANDING_BOOK, 1024);
         utxoCacheService = NulsContext.getServiceBean(CacheService.class);
         utxoCacheService.createCache(LedgerConstant.UTXO, 1024);
+        signCacheService = NulsContext.getServiceBean(CacheService.class);
+        signCacheService.createCache(LedgerConstant.SIGN_VERIFIED, LedgerConstant.SIGN_VERIFIED_CACHE_HEAP_MB);
     }
 
     public static LedgerCacheService getInstance() {
@@ -63,11 +68,13 @@ LedgerCacheService {
     public void clear() {
         this.cacheService.clearCache(LedgerConstant.STANDING_BOOK);
         this.utxoCacheService.clearCache(LedgerConstant.UTXO);
+        this.signCacheService.clearCache(LedgerConstant.SIGN_VERIFIED);
     }
 
     public void destroy() {
         this.cacheService.removeCache(LedgerConstant.STANDING_BOOK);
         this.utxoCacheService.removeCache(LedgerConstant.UTXO);
+        this.signCacheService.removeCache(LedgerConstant.SIGN_VERIFIED);
     }
 
     public void putBalance(String address, Balance balance) {
@@ -85,7 +92,7 @@ LedgerCacheService {
         return cacheService.getElement(LedgerConstant.STANDING_BOOK, address);
     }
 
-    public void putUtxo(String key, UtxoOutput output) {
+    public void putUtxo(NulsDigestKey key, UtxoOutput output) {
         utxoCacheService.putElement(LedgerConstant.UTXO, key, output);
 
         String address = output.getAddress();
@@ -104,11 +111,11 @@ LedgerCacheService {
         }
     }
 
-    public UtxoOutput getUtxo(String key) {
+    public UtxoOutput getUtxo(NulsDigestKey key) {
         return utxoCacheService.getElement(LedgerConstant.UTXO, key);
     }
 
-    public void removeUtxo(String key) {
+    public void removeUtxo(NulsDigestKey key) {
         UtxoOutput output = getUtxo(key);
         utxoCacheService.removeElement(LedgerConstant.UTXO, key);
         if (output != null) {
@@ -119,7 +126,22 @@ LedgerCacheService {
         }
     }
 
-    public boolean updateUtxoStatus(String key, OutPutStatusEnum newStatus, OutPutStatusEnum oldStatus) {
+    public void putSignVerified(NulsDigestKey txKey, byte[] scriptSig) {
+        if (null == txKey || null == scriptSig) {
+            return;
+        }
+        signCacheService.putElement(LedgerConstant.SIGN_VERIFIED, txKey, scriptSig);
+    }
+
+    public boolean isSignVerified(NulsDigestKey txKey, byte[] scriptSig) {
+        if (null == txKey || null == scriptSig) {
+            return false;
+        }
+        byte[] verified = signCacheService.getElement(LedgerConstant.SIGN_VERIFIED, txKey);
+        return Arrays.equals(verified, scriptSig);
+    }
+
+    public boolean updateUtxoStatus(NulsDigestKey key, OutPutStatusEnum newStatus, OutPutStatusEnum oldStatus) {
         if (!utxoCacheService.containsKey(LedgerConstant.UTXO, key)) {
             return false;
         }
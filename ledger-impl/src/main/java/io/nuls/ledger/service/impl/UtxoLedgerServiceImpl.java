@@ -61,6 +61,7 @@ import io.nuls.ledger.event.TransactionEvent;
 import io.nuls.ledger.service.intf.LedgerService;
 import io.nuls.ledger.util.UtxoTransactionTool;
 import io.nuls.ledger.util.UtxoTransferTool;
+import io.nuls.ledger.validator.TxSignValidator;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -526,6 +527,11 @@ public class UtxoLedgerServiceImpl implements LedgerService {
         tx.setStatus(TxStatusEnum.AGREED);
     }
 
+    @Override
+    public ValidateResult verifyTxSign(List<Transaction> txList) {
+        return TxSignValidator.getInstance().validate(txList);
+    }
+
     @Override
     public void deleteTx(Transaction tx) {
         txDao.deleteTx(tx.getHash().getDigestHex());
@@ -569,8 +575,9 @@ public class UtxoLedgerServiceImpl implements LedgerService {
     public void unlockTxApprove(String txHash) {
         boolean b = true;
         int index = 0;
+        NulsDigestData hash = NulsDigestData.fromDigestHex(txHash);
         while (b) {
-            UtxoOutput output = ledgerCacheService.getUtxo(txHash + "-" + index);
+            UtxoOutput output = ledgerCacheService.getUtxo(NulsDigestKey.of(hash, index));
             if (output != null) {
                 if (OutPutStatusEnum.UTXO_UNCONFIRM_CONSENSUS_LOCK == output.getStatus()) {
                     output.setStatus(OutPutStatusEnum.UTXO_UNCONFIRM_UNSPEND);
@@ -595,8 +602,9 @@ public class UtxoLedgerServiceImpl implements LedgerService {
     public void unlockTxRollback(String txHash) {
         boolean b = true;
         int index = 0;
+        NulsDigestData hash = NulsDigestData.fromDigestHex(txHash);
         while (b) {
-            UtxoOutput output = ledgerCacheService.getUtxo(txHash + "-" + index);
+            UtxoOutput output = ledgerCacheService.getUtxo(NulsDigestKey.of(hash, index));
             if (output != null) {
                 if (OutPutStatusEnum.UTXO_UNCONFIRM_UNSPEND == output.getStatus()) {
                     output.setStatus(OutPutStatusEnum.UTXO_UNCONFIRM_CONSENSUS_LOCK);
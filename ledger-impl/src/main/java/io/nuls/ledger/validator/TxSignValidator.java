@@ -24,16 +24,26 @@
 package io.nuls.ledger.validator;
 
 import io.nuls.core.chain.entity.NulsDigestData;
+import io.nuls.core.chain.entity.NulsDigestKey;
 import io.nuls.core.chain.entity.Transaction;
 import io.nuls.core.constant.ErrorCode;
+import io.nuls.core.constant.NulsConstant;
 import io.nuls.core.exception.NulsException;
 import io.nuls.core.script.P2PKHScript;
 import io.nuls.core.script.P2PKHScriptSig;
+import io.nuls.core.thread.manager.NulsThreadFactory;
+import io.nuls.core.thread.manager.TaskManager;
 import io.nuls.core.utils.io.NulsByteBuffer;
+import io.nuls.core.utils.log.Log;
 import io.nuls.core.validate.NulsDataValidator;
 import io.nuls.core.validate.ValidateResult;
+import io.nuls.ledger.constant.LedgerConstant;
+import io.nuls.ledger.service.impl.LedgerCacheService;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.*;
 
 /**
  * @author Niels
@@ -42,6 +52,10 @@ import java.util.Arrays;
 public class TxSignValidator implements NulsDataValidator<Transaction> {
     private static final TxSignValidator INSTANCE = new TxSignValidator();
 
+    private static final int THREAD_COUNT = Runtime.getRuntime().availableProcessors();
+
+    private ThreadPoolExecutor pool;
+
     private TxSignValidator() {
     }
 
@@ -52,25 +66,102 @@ public class TxSignValidator implements NulsDataValidator<Transaction> {
     @Override
     public ValidateResult validate(Transaction tx) {
         byte [] scriptSig = tx.getScriptSig();
-        tx.setScriptSig(null);
         NulsDigestData nulsDigestData;
         try {
-             nulsDigestData = NulsDigestData.calcDigestData(tx.serialize());
+             nulsDigestData = tx.getSignDigest();
         }catch (Exception e){
             return ValidateResult.getFailedResult(ErrorCode.DATA_ERROR);
-        }finally {
-            tx.setScriptSig(scriptSig);
         }
         if(!Arrays.equals(nulsDigestData.getDigestBytes(),tx.getHash().getDigestBytes())){
             return ValidateResult.getFailedResult(ErrorCode.DATA_ERROR );
         }
+        //the cached sign digest still equals the hash, so the earlier check still holds
+        if (tx.isSignVerified()) {
+            return ValidateResult.getSuccessResult();
+        }
 
+        NulsDigestKey txKey = tx.getHash().getDigestKey();
+        if (LedgerCacheService.getInstance().isSignVerified(txKey, scriptSig)) {
+            tx.setSignVerified(true);
+            return ValidateResult.getSuccessResult();
+        }
         P2PKHScriptSig p2PKHScriptSig = null;
         try {
             p2PKHScriptSig = new NulsByteBuffer(scriptSig).readNulsData(new P2PKHScriptSig());
         } catch (NulsException e) {
             return ValidateResult.getFailedResult(ErrorCode.SIGNATURE_ERROR );
         }
-        return p2PKHScriptSig.verifySign(tx.getHash());
+        ValidateResult result = p2PKHScriptSig.verifySign(tx.getHash());
+        if (result.isSuccess()) {
+            LedgerCacheService.getInstance().putSignVerified(txKey, scriptSig);
+            tx.setSignVerified(true);
+        }
+        return result;
+    }
+
+    /**
+     * Verify the signatures of the transactions on the worker pool, one slice of the list per worker,
+     * and return when all the slices are done.
+     *
+     * @param txList
+     * @return the result of the first transaction failed, or success
+     */
+    public ValidateResult validate(List<Transaction> txList) {
+        if (null == txList || txList.isEmpty()) {
+            return ValidateResult.getSuccessResult();
+        }
+        if (txList.size() < LedgerConstant.SIGN_VERIFY_MIN_PARALLEL_COUNT || THREAD_COUNT == 1) {
+            return validate(txList, 0, txList.size());
+        }
+        ThreadPoolExecutor executor = getPool();
+        int sliceSize = (txList.size() + THREAD_COUNT - 1) / THREAD_COUNT;
+        List<Future<ValidateResult>> futures = new ArrayList<>();
+        for (int start = 0; start < txList.size(); start += sliceSize) {
+            int end = Math.min(start + sliceSize, txList.size());
+            final int sliceStart = start;
+            try {
+                futures.add(executor.submit(() -> validate(txList, sliceStart, end)));
+            } catch (RejectedExecutionException e) {
+                FutureTask<ValidateResult> task = new FutureTask<>(() -> validate(txList, sliceStart, end));
+                task.run();
+                futures.add(task);
+            }
+        }
+        ValidateResult failed = null;
+        for (Future<ValidateResult> future : futures) {
+            try {
+                ValidateResult result = future.get();
+                if (null == failed && result.isFailed()) {
+                    failed = result;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return ValidateResult.getFailedResult(ErrorCode.SIGNATURE_ERROR);
+            } catch (ExecutionException e) {
+                Log.error(e);
+                if (null == failed) {
+                    failed = ValidateResult.getFailedResult(ErrorCode.SIGNATURE_ERROR);
+                }
+            }
+        }
+        return null == failed ? ValidateResult.getSuccessResult() : failed;
+    }
+
+    private ValidateResult validate(List<Transaction> txList, int start, int end) {
+        for (int i = start; i < end; i++) {
+            ValidateResult result = validate(txList.get(i));
+            if (result.isFailed()) {
+                return result;
+            }
+        }
+        return ValidateResult.getSuccessResult();
+    }
+
+    private synchronized ThreadPoolExecutor getPool() {
+        if (null == pool || pool.isShutdown()) {
+            pool = TaskManager.createThreadPool(THREAD_COUNT, 0,
+                    new NulsThreadFactory(NulsConstant.MODULE_ID_LEDGER, LedgerConstant.SIGN_VERIFY_POOL_NAME));
+        }
+        return pool;
     }
 }
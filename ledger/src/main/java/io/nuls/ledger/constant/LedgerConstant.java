@@ -37,10 +37,22 @@ public interface LedgerConstant {
 
     String UTXO = "UTXO";
 
+    /**
+     * tx hash -> the scriptSig whose signature has already been verified against it
+     */
+    String SIGN_VERIFIED = "SIGN_VERIFIED";
+    int SIGN_VERIFIED_CACHE_HEAP_MB = 16;
+
     short EVENT_TYPE_TRANSACTION = 1;
     short NOTICE_BALANCE_CHANGE = 2;
 
 
     long BLOCK_COUNT_OF_YEAR = 3153600;
+
+    String SIGN_VERIFY_POOL_NAME = "tx-sign-verify";
+    /**
+     * batches smaller than this are verified on the calling thread
+     */
+    int SIGN_VERIFY_MIN_PARALLEL_COUNT = 8;
     Na TRANSACTION_FEE = Na.CENT;
 }
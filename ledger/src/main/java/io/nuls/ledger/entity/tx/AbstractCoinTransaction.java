@@ -25,7 +25,6 @@ package io.nuls.ledger.entity.tx;
 
 import io.nuls.consensus.service.intf.ConsensusService;
 import io.nuls.core.chain.entity.BaseNulsData;
-import io.nuls.core.chain.entity.NulsDigestData;
 import io.nuls.core.chain.entity.Transaction;
 import io.nuls.core.constant.ErrorCode;
 import io.nuls.core.constant.NulsConstant;
@@ -36,17 +35,13 @@ import io.nuls.core.utils.crypto.Utils;
 import io.nuls.core.utils.date.TimeService;
 import io.nuls.core.utils.io.NulsByteBuffer;
 import io.nuls.core.utils.io.NulsOutputStreamBuffer;
-import io.nuls.core.utils.log.Log;
-import io.nuls.core.validate.NulsDataValidator;
 import io.nuls.ledger.entity.CoinData;
 import io.nuls.ledger.entity.params.CoinTransferData;
-import io.nuls.ledger.entity.validator.CoinDataValidator;
 import io.nuls.ledger.entity.validator.CoinTransactionValidatorManager;
 import io.nuls.ledger.service.intf.CoinDataProvider;
 
 import java.io.IOException;
 import java.util.Arrays;
-import java.util.List;
 
 /**
  * @author Niels
@@ -58,13 +53,12 @@ public abstract class AbstractCoinTransaction<T extends BaseNulsData> extends Tr
 
     protected CoinData coinData;
 
+    static {
+        CoinTransactionValidatorManager.registerValidators();
+    }
+
     public AbstractCoinTransaction(int type) {
         super(type);
-        List<NulsDataValidator> list = CoinTransactionValidatorManager.getValidators();
-        for (NulsDataValidator validator : list) {
-            this.registerValidator(validator);
-        }
-        this.registerValidator(CoinDataValidator.getInstance());
         initCoinDataProvider();
     }
 
@@ -84,36 +78,28 @@ public abstract class AbstractCoinTransaction<T extends BaseNulsData> extends Tr
     }
 
     @Override
-    public int size() {
-        int size = super.size();
+    protected int calcSize() {
+        int size = super.calcSize();
         size += Utils.sizeOfNulsData(coinData);
         return size;
     }
 
     @Override
-    protected void serializeToStream(NulsOutputStreamBuffer stream) throws IOException {
-        super.serializeToStream(stream);
+    protected void serializeExtend(NulsOutputStreamBuffer stream) throws IOException {
         stream.writeNulsData(coinData);
     }
 
     @Override
     protected void parse(NulsByteBuffer byteBuffer) throws NulsException {
         super.parse(byteBuffer);
-        this.coinData = coinDataProvider.parse(byteBuffer);
-        byte[] scriptsigCache = this.getScriptSig();
-        this.setScriptSig(null);
-        //NulsSignData cache = this.sign;
-        //this.sign = null;
-        try {
-            hash = NulsDigestData.calcDigestData(this.serialize());
-        } catch (IOException e) {
-            Log.error(e);
-        }
-        this.setScriptSig(scriptsigCache);
-        //sign = cache;
         coinDataProvider.afterParse(coinData, this);
     }
 
+    @Override
+    protected void parseExtend(NulsByteBuffer byteBuffer) throws NulsException {
+        this.coinData = coinDataProvider.parse(byteBuffer);
+    }
+
     public CoinDataProvider getCoinDataProvider() {
         return coinDataProvider;
     }
@@ -124,6 +110,7 @@ public abstract class AbstractCoinTransaction<T extends BaseNulsData> extends Tr
 
     public void setCoinData(CoinData coinData) {
         this.coinData = coinData;
+        this.resetParsed();
     }
 
     @Override
@@ -24,6 +24,8 @@
 package io.nuls.ledger.entity.validator;
 
 import io.nuls.core.validate.NulsDataValidator;
+import io.nuls.core.validate.ValidatorManager;
+import io.nuls.ledger.entity.tx.AbstractCoinTransaction;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -40,8 +42,18 @@ public class CoinTransactionValidatorManager {
      * the validator fit all transaction instances
      * @param validator
      */
-    public static void addTxDefValidator(NulsDataValidator validator) {
+    public static synchronized void addTxDefValidator(NulsDataValidator validator) {
         ALL_LIST.add(validator);
+        registerValidators();
+    }
+
+    /**
+     * register the default validators against AbstractCoinTransaction, the coin data validator always runs last
+     */
+    public static synchronized void registerValidators() {
+        List<NulsDataValidator> list = getValidators();
+        list.add(CoinDataValidator.getInstance());
+        ValidatorManager.setValidators(AbstractCoinTransaction.class, list);
     }
 
     public static final List<NulsDataValidator> getValidators() {
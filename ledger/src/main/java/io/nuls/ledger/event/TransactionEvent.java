@@ -51,6 +51,11 @@ public class TransactionEvent extends io.nuls.core.event.BaseEvent<Transaction>
         }
     }
 
+    @Override
+    public boolean isRelayEvent() {
+        return true;
+    }
+
     @Override
     public NoticeData getNotice() {
         NoticeData data = new NoticeData();
@@ -29,6 +29,7 @@ import io.nuls.core.chain.entity.Result;
 import io.nuls.core.chain.entity.Transaction;
 import io.nuls.core.dto.Page;
 import io.nuls.core.exception.NulsException;
+import io.nuls.core.validate.ValidateResult;
 import io.nuls.ledger.entity.Balance;
 
 import java.io.IOException;
@@ -86,6 +87,14 @@ public interface LedgerService {
 
     void approvalTx(Transaction tx) throws NulsException;
 
+    /**
+     * verify the signatures of all the transactions in parallel and wait for all of them
+     *
+     * @param txList
+     * @return the result of the first transaction failed, or success
+     */
+    ValidateResult verifyTxSign(List<Transaction> txList);
+
     void deleteTx(Transaction tx);
 
     void deleteTx(long blockHeight);
@@ -34,6 +34,7 @@ import io.nuls.network.message.entity.GetVersionEvent;
 import io.nuls.network.message.entity.VersionEvent;
 import io.nuls.network.message.handler.NetWorkEventHandler;
 import io.nuls.network.service.NetworkService;
+import io.nuls.network.service.impl.MessageCompressor;
 
 /**
  * @author vivi
@@ -79,7 +80,9 @@ public class GetVersionEventHandler implements NetWorkEventHandler {
 
         VersionEvent replyMessage = new VersionEvent(getNetworkService().getNetworkParam().getExternalPort(),
                 block.getHeader().getHeight(), block.getHeader().getHash().getDigestHex());
+        replyMessage.setCompression(MessageCompressor.getSupported());
         node.setPort(event.getExternalPort());
+        node.setCompression(MessageCompressor.negotiate(event.getCompression()));
         return new NetworkEventResult(true, replyMessage);
     }
 
@@ -36,6 +36,7 @@ import io.nuls.network.message.NetworkEventResult;
 import io.nuls.network.message.entity.VersionEvent;
 import io.nuls.network.message.handler.NetWorkEventHandler;
 import io.nuls.network.service.NetworkService;
+import io.nuls.network.service.impl.MessageCompressor;
 
 /**
  * @author vivi
@@ -75,6 +76,7 @@ public class VersionEventHandler implements NetWorkEventHandler {
             throw new NetworkMessageException(ErrorCode.NET_MESSAGE_ERROR);
         }
         node.setVersionMessage(event);
+        node.setCompression(MessageCompressor.negotiate(event.getCompression()));
         checkVersion(event.getNulsVersion());
 
         if (!node.isHandShake()) {
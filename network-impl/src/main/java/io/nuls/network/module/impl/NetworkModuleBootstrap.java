@@ -35,8 +35,10 @@ import io.nuls.network.message.entity.*;
 import io.nuls.network.message.filter.MessageFilterChain;
 import io.nuls.network.module.AbstractNetworkModule;
 import io.nuls.network.service.NetworkService;
+import io.nuls.network.service.impl.MessageCompressor;
 import io.nuls.network.service.impl.NetworkServiceImpl;
 import io.nuls.network.service.impl.netty.NettyClient;
+import io.nuls.network.service.impl.netty.NettyTransport;
 
 import java.io.IOException;
 
@@ -58,6 +60,8 @@ public class NetworkModuleBootstrap extends AbstractNetworkModule {
             throw new NulsRuntimeException(ErrorCode.IO_ERROR);
         }
 
+        NettyTransport.init();
+        MessageCompressor.init();
         this.registerService(NetworkServiceImpl.class);
         networkService = NulsContext.getServiceBean(NetworkService.class);
     }
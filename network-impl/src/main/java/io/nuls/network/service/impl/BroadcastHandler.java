@@ -23,9 +23,11 @@
  */
 package io.nuls.network.service.impl;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.socket.SocketChannel;
+import io.netty.util.ReferenceCountUtil;
 import io.nuls.core.event.BaseEvent;
 import io.nuls.core.mesasge.NulsMessage;
 import io.nuls.core.utils.log.Log;
@@ -37,6 +39,7 @@ import io.nuls.network.service.impl.netty.NioChannelMap;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -100,12 +103,11 @@ public class BroadcastHandler {
 
     public BroadcastResult broadcastToNode(BaseEvent event, String nodeId, boolean asyn) {
         try {
-            NulsMessage message = new NulsMessage(network.packetMagic(), event.serialize());
             Node node = nodesManager.getNode(nodeId);
             if (node == null) {
                 return new BroadcastResult(false, "node not found");
             }
-            return broadcast(message, node, asyn);
+            return broadcast(event.serialize(), node, asyn);
         } catch (IOException e) {
             return new BroadcastResult(false, "event.serialize() error");
         }
@@ -113,8 +115,7 @@ public class BroadcastHandler {
 
     public BroadcastResult broadcastToNode(BaseEvent event, Node node, boolean asyn) {
         try {
-            NulsMessage message = new NulsMessage(network.packetMagic(), event.serialize());
-            return broadcast(message, node, asyn);
+            return broadcast(event.serialize(), node, asyn);
         } catch (IOException e) {
             return new BroadcastResult(false, "event.serialize() error");
         }
@@ -335,56 +336,123 @@ public class BroadcastHandler {
 //    }
 
     private BroadcastResult broadcastToList(List<Node> nodeList, BaseEvent event, String excludeNodeId, boolean asyn) {
-        NulsMessage message;
         BroadcastResult result = new BroadcastResult();
+        byte[] data;
+        try {
+            data = event.serialize();
+        } catch (IOException e) {
+            return new BroadcastResult(false, "event.serialize() error");
+        }
+        //each encoding is built at most once and shared by all channels, each write holds its own reference
+        ByteBuf buffer = null;
+        ByteBuf compressedBuffer = null;
+        Map<Node, ChannelFuture> futureMap = new LinkedHashMap<>();
         try {
-            message = new NulsMessage(network.packetMagic(), event.serialize());
-            int successCount = 0;
             for (Node node : nodeList) {
                 if (excludeNodeId != null && node.getId().equals(excludeNodeId)) {
                     continue;
                 }
-                BroadcastResult br = broadcast(message, node, asyn);
-                if (br.isSuccess()) {
-                    successCount++;
-                    result.getBroadcastNodes().add(node);
+                ByteBuf nodeBuffer;
+                if (MessageCompressor.needCompress(node, data)) {
+                    if (compressedBuffer == null) {
+                        compressedBuffer = encode(data, true);
+                    }
+                    nodeBuffer = compressedBuffer;
+                } else {
+                    if (buffer == null) {
+                        buffer = encode(data, false);
+                    }
+                    nodeBuffer = buffer;
+                }
+                ChannelFuture future = write(nodeBuffer, node, true);
+                if (future != null) {
+                    futureMap.put(node, future);
                 }
-            }
-            if (successCount == 0) {
-                return new BroadcastResult(false, "send message failed");
             }
         } catch (IOException e) {
             return new BroadcastResult(false, "event.serialize() error");
+        } finally {
+            if (buffer != null) {
+                buffer.release();
+            }
+            if (compressedBuffer != null) {
+                compressedBuffer.release();
+            }
+        }
+        //all writes are in flight already, so a sync broadcast waits for the slowest node only
+        for (Map.Entry<Node, ChannelFuture> entry : futureMap.entrySet()) {
+            if (!asyn && !entry.getValue().awaitUninterruptibly().isSuccess()) {
+                continue;
+            }
+            result.getBroadcastNodes().add(entry.getKey());
+        }
+        if (result.getBroadcastNodes().isEmpty()) {
+            return new BroadcastResult(false, "send message failed");
         }
         result.setSuccess(true);
         result.setMessage("OK");
         return result;
     }
 
-    private BroadcastResult broadcast(NulsMessage message, Node node, boolean asyn) throws IOException {
+    private BroadcastResult broadcast(byte[] data, Node node, boolean asyn) throws IOException {
+        ByteBuf buffer = encode(data, MessageCompressor.needCompress(node, data));
+        ChannelFuture future;
         try {
-            if(!node.isAlive() && node.getChannelId() == null) {
-                return new BroadcastResult(false, "node not found");
+            future = write(buffer, node, false);
+        } finally {
+            buffer.release();
+        }
+        if (future == null) {
+            return new BroadcastResult(false, "node not found");
+        }
+        if (!asyn && !future.awaitUninterruptibly().isSuccess()) {
+            return new BroadcastResult(false, "send message failed");
+        }
+        return new BroadcastResult(true, "OK");
+    }
+
+    /**
+     * header and body are wrapped without copying them into one array
+     */
+    private ByteBuf encode(byte[] data, boolean compress) throws IOException {
+        NulsMessage message = null;
+        if (compress) {
+            message = MessageCompressor.compress(network.packetMagic(), data);
+        }
+        if (message == null) {
+            message = new NulsMessage(network.packetMagic(), data);
+        }
+        return Unpooled.wrappedBuffer(message.getHeader().serialize(), message.getData());
+    }
+
+    /**
+     * a fan-out message is dropped for a peer whose outbound buffer is above the high water mark,
+     * the peer gets it from its other connections or catches up by downloading
+     */
+    private ChannelFuture write(ByteBuf buffer, Node node, boolean droppable) {
+        ByteBuf duplicate = null;
+        try {
+            if (!node.isAlive() && node.getChannelId() == null) {
+                return null;
             }
             SocketChannel channel = NioChannelMap.get(node.getChannelId());
             if (channel == null) {
-                return new BroadcastResult(false, "node not found");
+                return null;
             }
-            ChannelFuture future = channel.writeAndFlush(Unpooled.wrappedBuffer(message.serialize()));
-            if (!asyn) {
-                future.await();
-                boolean success = future.isSuccess();
-                if (!success) {
-                    return new BroadcastResult(false, "send message failed");
-                }
+            if (droppable && !channel.isWritable()) {
+                Log.debug("node " + node.getId() + " falls behind, drop the broadcast message");
+                return null;
             }
-        } catch (IOException e) {
-            throw e;
+            duplicate = buffer.retainedDuplicate();
+            return channel.writeAndFlush(duplicate);
         } catch (Exception e) {
+            //the channel did not take the duplicate, give its reference back
+            if (null != duplicate) {
+                ReferenceCountUtil.safeRelease(duplicate);
+            }
             Log.error(e);
-            return new BroadcastResult(false, "send message failed");
+            return null;
         }
-        return new BroadcastResult(true, "OK");
     }
 
     public void setNetwork(AbstractNetworkParam network) {
@@ -26,6 +26,7 @@ package io.nuls.network.service.impl;
 import io.nuls.core.constant.NulsConstant;
 import io.nuls.core.context.NulsContext;
 import io.nuls.core.event.BaseEvent;
+import io.nuls.core.event.EventHeader;
 import io.nuls.core.event.EventManager;
 import io.nuls.core.exception.NulsException;
 import io.nuls.core.mesasge.NulsMessage;
@@ -46,9 +47,6 @@ import io.nuls.network.service.impl.netty.NettyClient;
 import io.nuls.network.service.impl.netty.NettyServer;
 
 import java.io.IOException;
-import java.nio.ByteBuffer;
-import java.util.ArrayList;
-import java.util.List;
 
 /**
  * @author vivi
@@ -93,34 +91,18 @@ public class ConnectionManager {
     }
 
     public void connectionNode(Node node) {
-        TaskManager.createAndRunThread(NulsConstant.MODULE_ID_NETWORK, "node connection", new Runnable() {
-            @Override
-            public void run() {
-                NettyClient client = new NettyClient(node);
-                client.start();
-            }
-        }, false);
+        new NettyClient(node).start();
     }
 
-    public void receiveMessage(ByteBuffer buffer, Node node) {
-        List<NulsMessage> list;
+    public void receiveMessage(NulsMessage message, Node node) {
         try {
-            buffer.flip();
             if (!node.isAlive()) {
-                buffer.clear();
                 return;
             }
-            list = new ArrayList<>();
-            while (buffer.hasRemaining()) {
-                NulsMessage message = new NulsMessage(buffer);
-                list.add(message);
-            }
-            for (NulsMessage message : list) {
-                if (MessageFilterChain.getInstance().doFilter(message)) {
-                    BaseEvent event = EventManager.getInstance(message.getData());
-                    MsgLog.info("get(" + node.getId() + "):\n" + Hex.encode(message.getHeader().serialize()) + "--" + Hex.encode(message.getData()));
-                    processMessage(event, node);
-                }
+            if (MessageFilterChain.getInstance().doFilter(message)) {
+                MessageCompressor.decompress(message);
+                MsgLog.info("get(" + node.getId() + "):\n" + Hex.encode(message.getHeader().serialize()) + "--" + Hex.encode(message.getData()));
+                processMessage(message.getData(), node);
             }
         } catch (NulsException e) {
             //todo
@@ -128,18 +110,19 @@ public class ConnectionManager {
         } catch (Exception e) {
             //todo
             Log.error(e);
-            return;
-        } finally {
-            buffer.clear();
         }
     }
 
-    private void processMessage(BaseEvent event, Node node) {
-        if(event == null) {
-            Log.error("---------------------NulEvent is null--------------------------------");
-            return;
-        }
-        if (isNetworkEvent(event)) {
+    private void processMessage(byte[] data, Node node) throws NulsException {
+        EventHeader header = new EventHeader();
+        header.parse(data);
+        if (header.getModuleId() == NulsConstant.MODULE_ID_NETWORK) {
+            BaseEvent event = EventManager.newInstance(header);
+            if (event == null) {
+                Log.error("---------------------NulEvent is null--------------------------------");
+                return;
+            }
+            event.parse(data);
             if (node.getStatus() != Node.HANDSHAKE && !isHandShakeMessage(event)) {
                 return;
             }
@@ -148,7 +131,8 @@ public class ConnectionManager {
             if (!node.isHandShake()) {
                 return;
             }
-            eventBusService.publishNetworkEvent(event, node.getId());
+            //the event bus parses the body itself, so relayed duplicates are dropped before that
+            eventBusService.publishNetworkEvent(header, data, node.getId());
         }
     }
 
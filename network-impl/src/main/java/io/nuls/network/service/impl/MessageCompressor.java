@@ -0,0 +1,150 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2018 nuls.io
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.nuls.network.service.impl;
+
+import io.nuls.core.constant.ErrorCode;
+import io.nuls.core.context.NulsContext;
+import io.nuls.core.exception.NulsException;
+import io.nuls.core.mesasge.NulsMessage;
+import io.nuls.core.utils.log.Log;
+import io.nuls.network.constant.NetworkConstant;
+import io.nuls.network.entity.Node;
+
+import java.io.ByteArrayOutputStream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Compresses message payloads for peers that negotiated a codec in the version handshake,
+ * the codec of a message is kept in the arithmetic byte of its header
+ *
+ * @author agent
+ * @date 2026/10/18
+ */
+public final class MessageCompressor {
+
+    private static final int MAX_INFLATED_SIZE = 10 * 1024 * 1024;
+
+    /**
+     * set by init() when the module starts, no codec until then
+     */
+    private static volatile byte supported = NetworkConstant.COMPRESSION_NONE;
+
+    private MessageCompressor() {
+    }
+
+    /**
+     * read the codecs from the module configuration, called by the module bootstrap before any handshake
+     */
+    public static void init() {
+        supported = readSupported();
+        Log.info("network payload compression is " + (supported == NetworkConstant.COMPRESSION_NONE ? "off" : "deflate"));
+    }
+
+    private static byte readSupported() {
+        boolean enabled = true;
+        if (null != NulsContext.MODULES_CONFIG) {
+            enabled = NulsContext.MODULES_CONFIG.getCfgValue(NetworkConstant.NETWORK_SECTION, NetworkConstant.NETWORK_COMPRESSION, true);
+        }
+        return enabled ? NetworkConstant.COMPRESSION_DEFLATE : NetworkConstant.COMPRESSION_NONE;
+    }
+
+    /**
+     * the codecs this node supports, announced in the version handshake
+     */
+    public static byte getSupported() {
+        return supported;
+    }
+
+    /**
+     * the codec to use with a peer that announced the given codecs
+     */
+    public static byte negotiate(byte peerSupported) {
+        return (byte) (supported & peerSupported);
+    }
+
+    public static boolean needCompress(Node node, byte[] data) {
+        return node.getCompression() == NetworkConstant.COMPRESSION_DEFLATE && data.length >= NetworkConstant.COMPRESSION_THRESHOLD;
+    }
+
+    /**
+     * the compressed message, or null when compression does not make the payload smaller
+     */
+    public static NulsMessage compress(int magicNumber, byte[] data) {
+        Deflater deflater = new Deflater();
+        try {
+            deflater.setInput(data);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 2);
+            byte[] buffer = new byte[4096];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+                if (out.size() >= data.length) {
+                    return null;
+                }
+            }
+            NulsMessage message = new NulsMessage(magicNumber, out.toByteArray());
+            message.getHeader().setArithmetic(NetworkConstant.COMPRESSION_DEFLATE);
+            return message;
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * restores the payload of a verified message in place, any codec this node supports is accepted:
+     * the peer may use the codec before the handler of its version event has stored it on the node
+     */
+    public static void decompress(NulsMessage message) throws NulsException {
+        byte arithmetic = message.getHeader().getArithmetic();
+        if (arithmetic == NetworkConstant.COMPRESSION_NONE) {
+            return;
+        }
+        if (arithmetic != NetworkConstant.COMPRESSION_DEFLATE || (supported & arithmetic) == 0) {
+            throw new NulsException(ErrorCode.NET_MESSAGE_ERROR);
+        }
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(message.getData());
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.min(message.getData().length * 4, MAX_INFLATED_SIZE));
+            byte[] buffer = new byte[4096];
+            while (!inflater.finished()) {
+                int count = inflater.inflate(buffer);
+                if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new NulsException(ErrorCode.NET_MESSAGE_ERROR);
+                }
+                out.write(buffer, 0, count);
+                if (out.size() > MAX_INFLATED_SIZE) {
+                    throw new NulsException(ErrorCode.NET_MESSAGE_LENGTH_ERROR);
+                }
+            }
+            message.setData(out.toByteArray());
+        } catch (DataFormatException e) {
+            throw new NulsException(ErrorCode.NET_MESSAGE_ERROR, e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
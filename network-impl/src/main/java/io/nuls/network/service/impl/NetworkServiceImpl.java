@@ -27,6 +27,7 @@ import io.nuls.core.constant.ErrorCode;
 import io.nuls.core.constant.NulsConstant;
 import io.nuls.core.context.NulsContext;
 import io.nuls.core.event.BaseEvent;
+import io.nuls.core.mesasge.NulsMessage;
 import io.nuls.core.exception.NulsRuntimeException;
 import io.nuls.core.thread.manager.TaskManager;
 import io.nuls.core.utils.log.Log;
@@ -44,7 +45,6 @@ import io.nuls.network.param.MainNetworkParam;
 import io.nuls.network.param.TestNetworkParam;
 import io.nuls.network.service.NetworkService;
 
-import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -214,8 +214,8 @@ public class NetworkServiceImpl implements NetworkService {
     }
 
     @Override
-    public void receiveMessage(ByteBuffer buffer, Node node) {
-        connectionManager.receiveMessage(buffer, node);
+    public void receiveMessage(NulsMessage message, Node node) {
+        connectionManager.receiveMessage(message, node);
     }
 
     private AbstractNetworkParam getNetworkInstance() {
@@ -164,6 +164,7 @@ public class NodeDiscoverHandler implements Runnable {
             Log.info("nodes:" + str.toString().substring(1));
 
             GetVersionEvent event = new GetVersionEvent(network.getExternalPort());
+            event.setCompression(MessageCompressor.getSupported());
             GetNodesIpEvent ipEvent = new GetNodesIpEvent();
             for (Node node : nodeList) {
                 if (node.isAlive()) {
@@ -1,18 +1,19 @@
 package io.nuls.network.service.impl.netty;
 
-import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.channel.socket.SocketChannel;
 import io.nuls.core.context.NulsContext;
+import io.nuls.core.mesasge.NulsMessage;
 import io.nuls.core.utils.log.Log;
 import io.nuls.core.utils.spring.lite.annotation.Autowired;
 import io.nuls.network.entity.Node;
 import io.nuls.network.service.NetworkService;
 
 import java.io.UnsupportedEncodingException;
-import java.nio.ByteBuffer;
 
+@ChannelHandler.Sharable
 public class ClientChannelHandler extends ChannelInboundHandlerAdapter {
 
     @Autowired
@@ -27,9 +28,9 @@ public class ClientChannelHandler extends ChannelInboundHandlerAdapter {
         String channelId = ctx.channel().id().asLongText();
         SocketChannel channel = (SocketChannel) ctx.channel();
 
-        Node node = getNetworkService().getNode(channel.remoteAddress().getHostString());
+        Node node = channel.attr(NioChannelMap.NODE_KEY).get();
         //check node exist
-        if (node == null || (node != null && node.getStatus() != Node.WAIT)) {
+        if (node == null || node.getStatus() != Node.WAIT) {
             ctx.channel().close();
             return;
         }
@@ -42,9 +43,8 @@ public class ClientChannelHandler extends ChannelInboundHandlerAdapter {
     public void channelInactive(ChannelHandlerContext ctx) throws Exception {
         Log.debug("----------------------client channelInactive ------------------------- ");
         String channelId = ctx.channel().id().asLongText();
-        SocketChannel channel = (SocketChannel) ctx.channel();
         NioChannelMap.remove(channelId);
-        Node node = getNetworkService().getNode(channel.remoteAddress().getHostString());
+        Node node = ctx.channel().attr(NioChannelMap.NODE_KEY).get();
         if (node != null) {
             if (node.getChannelId() == null || channelId.equals(node.getChannelId())) {
                 getNetworkService().removeNode(node.getId());
@@ -54,16 +54,9 @@ public class ClientChannelHandler extends ChannelInboundHandlerAdapter {
 
     @Override
     public void channelRead(ChannelHandlerContext ctx, Object msg) throws UnsupportedEncodingException {
-        SocketChannel channel = (SocketChannel) ctx.channel();
-        Node node = getNetworkService().getNode(channel.remoteAddress().getHostString());
+        Node node = ctx.channel().attr(NioChannelMap.NODE_KEY).get();
         if (node != null && node.isAlive()) {
-            ByteBuf buf = (ByteBuf) msg;
-            byte[] bytes = new byte[buf.readableBytes()];
-            buf.readBytes(bytes);
-            buf.release();
-            ByteBuffer buffer = ByteBuffer.allocate(bytes.length);
-            buffer.put(bytes);
-            getNetworkService().receiveMessage(buffer, node);
+            getNetworkService().receiveMessage((NulsMessage) msg, node);
         }
     }
 
@@ -2,56 +2,79 @@ package io.nuls.network.service.impl.netty;
 
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
-import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
-import io.netty.channel.socket.nio.NioSocketChannel;
 import io.nuls.core.context.NulsContext;
 import io.nuls.core.utils.log.Log;
+import io.nuls.network.constant.NetworkConstant;
 import io.nuls.network.entity.Node;
 import io.nuls.network.service.NetworkService;
 
+import java.util.concurrent.TimeUnit;
 
+
+/**
+ * Outbound connections are driven by listeners on the shared worker group, no thread waits on a connection
+ */
 public class NettyClient {
 
-    public static EventLoopGroup worker = new NioEventLoopGroup();
+    public static EventLoopGroup worker = NettyTransport.newEventLoopGroup();
 
-    Bootstrap boot;
+    private static final Bootstrap BOOT = new Bootstrap()
+            .group(worker)
+            .channel(NettyTransport.channelClass())
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, NetworkConstant.CONNECT_TIMEOUT_MILLIS)
+            .option(ChannelOption.TCP_NODELAY, true)
+            .option(ChannelOption.SO_KEEPALIVE, true)
+            .option(ChannelOption.WRITE_BUFFER_WATER_MARK, NettyTransport.WRITE_BUFFER_WATER_MARK)
+            .handler(new NulsChannelInitializer<>(new ClientChannelHandler()));
 
     private SocketChannel socketChannel;
 
     private Node node;
 
+    private int retryCount;
+
     private NetworkService networkService;
 
     public NettyClient(Node node) {
         this.node = node;
-        boot = new Bootstrap();
-        boot.group(worker)
-                .channel(NioSocketChannel.class)
-                .option(ChannelOption.TCP_NODELAY, true)
-                .option(ChannelOption.SO_KEEPALIVE, true)
-                .handler(new NulsChannelInitializer<>(new ClientChannelHandler()));
     }
 
     public void start() {
-        try {
-            ChannelFuture future = boot.connect(node.getIp(), node.getPort()).sync();
-            if (future.isSuccess()) {
-                socketChannel = (SocketChannel) future.channel();
-            } else {
-                getNetworkService().removeNode(node.getId(),node.getType());
+        BOOT.clone().attr(NioChannelMap.NODE_KEY, node).connect(node.getIp(), node.getPort()).addListener(new ChannelFutureListener() {
+            @Override
+            public void operationComplete(ChannelFuture future) throws Exception {
+                if (future.isSuccess()) {
+                    socketChannel = (SocketChannel) future.channel();
+                    return;
+                }
+                //maybe time out or refused or something
+                Log.debug("-------------NettyClient connect " + node.getId() + " failed: " + future.cause());
+                retry();
             }
-            future.channel().closeFuture().sync();
-        } catch (Exception e) {
-            Log.error("-------------NettyClient start error: " + e.getMessage());
-            //maybe time out or refused or something
-            if (socketChannel != null) {
-                socketChannel.close();
-            }
-            getNetworkService().removeNode(node.getId(),node.getType());
+        });
+    }
+
+    private void retry() {
+        if (node.getStatus() != Node.WAIT || retryCount >= NetworkConstant.CONNECT_RETRY_COUNT) {
+            getNetworkService().removeNode(node.getId(), node.getType());
+            return;
         }
+        long delay = NetworkConstant.CONNECT_RETRY_DELAY_MILLIS << retryCount;
+        retryCount++;
+        worker.schedule(new Runnable() {
+            @Override
+            public void run() {
+                start();
+            }
+        }, delay, TimeUnit.MILLISECONDS);
+    }
+
+    public SocketChannel getSocketChannel() {
+        return socketChannel;
     }
 
     private NetworkService getNetworkService() {
@@ -4,8 +4,6 @@ import io.netty.bootstrap.ServerBootstrap;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
-import io.netty.channel.nio.NioEventLoopGroup;
-import io.netty.channel.socket.nio.NioServerSocketChannel;
 
 public class NettyServer {
 
@@ -20,14 +18,15 @@ public class NettyServer {
     }
 
     public void init() {
-        boss = new NioEventLoopGroup();
-        worker = new NioEventLoopGroup();
+        boss = NettyTransport.newEventLoopGroup();
+        worker = NettyTransport.newEventLoopGroup();
         serverBootstrap = new ServerBootstrap();
         serverBootstrap.group(boss, worker)
-                .channel(NioServerSocketChannel.class)
+                .channel(NettyTransport.serverChannelClass())
                 .option(ChannelOption.SO_BACKLOG, 128)
                 .childOption(ChannelOption.TCP_NODELAY, true)            //Send messages immediately
                 .childOption(ChannelOption.SO_KEEPALIVE, true)
+                .childOption(ChannelOption.WRITE_BUFFER_WATER_MARK, NettyTransport.WRITE_BUFFER_WATER_MARK)
                 .childHandler(new NulsChannelInitializer<>(new ServerChannelHandler()));
     }
 
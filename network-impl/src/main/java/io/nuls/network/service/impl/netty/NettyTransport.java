@@ -0,0 +1,75 @@
+package io.nuls.network.service.impl.netty;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.WriteBufferWaterMark;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.ServerSocketChannel;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.nuls.core.context.NulsContext;
+import io.nuls.core.utils.log.Log;
+import io.nuls.network.constant.NetworkConstant;
+
+/**
+ * Selects the native epoll transport when it is configured and available on this system, NIO otherwise
+ *
+ * @author agent
+ * @date 2026/10/18
+ */
+public final class NettyTransport {
+
+    /**
+     * set by init() when the module starts, nio until then
+     */
+    private static volatile boolean epoll;
+
+    public static final WriteBufferWaterMark WRITE_BUFFER_WATER_MARK = new WriteBufferWaterMark(
+            NetworkConstant.WRITE_BUFFER_LOW_WATER_MARK, NetworkConstant.WRITE_BUFFER_HIGH_WATER_MARK);
+
+    private NettyTransport() {
+    }
+
+    /**
+     * read the transport from the module configuration, called by the module bootstrap before any event loop is made
+     */
+    public static void init() {
+        epoll = useEpoll();
+        Log.info("network uses the " + (epoll ? "epoll" : "nio") + " transport");
+    }
+
+    private static boolean useEpoll() {
+        if (null == NulsContext.MODULES_CONFIG) {
+            return false;
+        }
+        boolean configured = NulsContext.MODULES_CONFIG.getCfgValue(NetworkConstant.NETWORK_SECTION, NetworkConstant.NETWORK_EPOLL, false);
+        if (!configured) {
+            return false;
+        }
+        if (!Epoll.isAvailable()) {
+            Log.warn("epoll transport is not available, fall back to nio:" + Epoll.unavailabilityCause());
+            return false;
+        }
+        return true;
+    }
+
+    public static boolean isEpoll() {
+        return epoll;
+    }
+
+    public static EventLoopGroup newEventLoopGroup() {
+        return epoll ? new EpollEventLoopGroup() : new NioEventLoopGroup();
+    }
+
+    public static Class<? extends ServerSocketChannel> serverChannelClass() {
+        return epoll ? EpollServerSocketChannel.class : NioServerSocketChannel.class;
+    }
+
+    public static Class<? extends SocketChannel> channelClass() {
+        return epoll ? EpollSocketChannel.class : NioSocketChannel.class;
+    }
+}
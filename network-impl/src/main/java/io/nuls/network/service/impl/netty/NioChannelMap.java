@@ -1,12 +1,19 @@
 package io.nuls.network.service.impl.netty;
 
 import io.netty.channel.socket.SocketChannel;
+import io.netty.util.AttributeKey;
+import io.nuls.network.entity.Node;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 public class NioChannelMap {
 
+    /**
+     * the node of a channel, bound once when the connection is established
+     */
+    public static final AttributeKey<Node> NODE_KEY = AttributeKey.valueOf("node");
+
     private static Map<String, SocketChannel> map = new ConcurrentHashMap<>();
 
     public static void add(String channelId, SocketChannel channel) {
@@ -7,6 +7,8 @@ import io.netty.channel.socket.SocketChannel;
 import io.netty.handler.codec.LengthFieldBasedFrameDecoder;
 import io.netty.handler.codec.LengthFieldPrepender;
 import io.netty.handler.codec.string.StringEncoder;
+import io.netty.handler.flush.FlushConsolidationHandler;
+import io.nuls.network.constant.NetworkConstant;
 
 import java.nio.charset.Charset;
 
@@ -21,7 +23,10 @@ public class NulsChannelInitializer<T extends ChannelInboundHandlerAdapter> exte
     @Override
     protected void initChannel(SocketChannel socketChannel) throws Exception {
         ChannelPipeline p = socketChannel.pipeline();
+        //writes from other threads are flushed together instead of one syscall per message
+        p.addLast("flushConsolidation", new FlushConsolidationHandler(NetworkConstant.EXPLICIT_FLUSH_AFTER_FLUSHES, true));
         p.addLast("decoder", new LengthFieldBasedFrameDecoder(10 * 1024 * 1024, 0, 8, 0, 8));
+        p.addLast("messageDecoder", new NulsMessageDecoder());
         p.addLast("encoder0", new LengthFieldPrepender(8, false));
         p.addLast(t);
     }
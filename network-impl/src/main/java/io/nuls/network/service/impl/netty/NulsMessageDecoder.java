@@ -0,0 +1,42 @@
+package io.nuls.network.service.impl.netty;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.CorruptedFrameException;
+import io.netty.handler.codec.MessageToMessageDecoder;
+import io.nuls.core.mesasge.NulsMessage;
+import io.nuls.core.mesasge.NulsMessageHeader;
+
+import java.util.List;
+
+/**
+ * Reads the nuls messages of a frame straight from the pooled buffer,
+ * the frame is released by the decoder once all messages are read
+ *
+ * @author agent
+ * @date 2026/10/18
+ */
+public class NulsMessageDecoder extends MessageToMessageDecoder<ByteBuf> {
+
+    @Override
+    protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) throws Exception {
+        while (in.isReadable()) {
+            if (in.readableBytes() < NulsMessageHeader.MESSAGE_HEADER_SIZE) {
+                throw new CorruptedFrameException("incomplete message header:" + in.readableBytes());
+            }
+            NulsMessageHeader header = new NulsMessageHeader();
+            header.setMagicNumber(in.readIntLE());
+            header.setLength(in.readIntLE());
+            header.setXor(in.readByte());
+            header.setArithmetic(in.readByte());
+            if (header.getLength() < 0 || header.getLength() > in.readableBytes()) {
+                throw new CorruptedFrameException("message length error:" + header.getLength());
+            }
+            byte[] data = new byte[header.getLength()];
+            in.readBytes(data);
+            NulsMessage message = new NulsMessage(header);
+            message.setData(data);
+            out.add(message);
+        }
+    }
+}
@@ -1,11 +1,11 @@
 package io.nuls.network.service.impl.netty;
 
-import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.channel.socket.SocketChannel;
 import io.nuls.core.context.NulsContext;
+import io.nuls.core.mesasge.NulsMessage;
 import io.nuls.core.utils.log.Log;
 import io.nuls.core.utils.network.IpUtil;
 import io.nuls.core.utils.spring.lite.annotation.Autowired;
@@ -15,7 +15,6 @@ import io.nuls.network.entity.NodeGroup;
 import io.nuls.network.service.NetworkService;
 
 import java.net.InetAddress;
-import java.nio.ByteBuffer;
 
 /**
  * @author Vive
@@ -65,6 +64,13 @@ public class ServerChannelHandler extends ChannelInboundHandlerAdapter {
         Node node = new Node(getNetworkService().getNetworkParam(), Node.IN, channel.remoteAddress().getHostString(), channel.remoteAddress().getPort(), channelId);
         node.setStatus(Node.CONNECT);
         getNetworkService().addNodeToGroup(NetworkConstant.NETWORK_NODE_IN_GROUP, node);
+        //nodes are keyed by ip, so a full group or a second connection from the same ip (behind a NAT)
+        //leaves this node unregistered, and its channel is closed instead of being left half open
+        if (getNetworkService().getNode(node.getId()) != node) {
+            ctx.channel().close();
+            return;
+        }
+        channel.attr(NioChannelMap.NODE_KEY).set(node);
     }
 
     @Override
@@ -73,9 +79,9 @@ public class ServerChannelHandler extends ChannelInboundHandlerAdapter {
         SocketChannel channel = (SocketChannel) ctx.channel();
         String channelId = ctx.channel().id().asLongText();
         NioChannelMap.remove(channelId);
-        Node node = getNetworkService().getNode(channel.remoteAddress().getHostString());
+        Node node = channel.attr(NioChannelMap.NODE_KEY).get();
         if (node != null && channelId.equals(node.getChannelId())) {
-            getNetworkService().removeNode(channel.remoteAddress().getHostString());
+            getNetworkService().removeNode(node.getId());
         }
     }
 
@@ -87,16 +93,9 @@ public class ServerChannelHandler extends ChannelInboundHandlerAdapter {
 
     @Override
     public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
-        SocketChannel channel = (SocketChannel) ctx.channel();
-        Node node = getNetworkService().getNode(channel.remoteAddress().getHostString());
+        Node node = ctx.channel().attr(NioChannelMap.NODE_KEY).get();
         if (node != null && node.isAlive()) {
-            ByteBuf buf = (ByteBuf) msg;
-            byte[] bytes = new byte[buf.readableBytes()];
-            buf.readBytes(bytes);
-            buf.release();
-            ByteBuffer buffer = ByteBuffer.allocate(bytes.length);
-            buffer.put(bytes);
-            getNetworkService().receiveMessage(buffer, node);
+            getNetworkService().receiveMessage((NulsMessage) msg, node);
         }
     }
 
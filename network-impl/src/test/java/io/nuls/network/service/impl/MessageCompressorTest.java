@@ -0,0 +1,147 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017-2018 nuls.io
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.nuls.network.service.impl;
+
+import io.nuls.core.constant.ErrorCode;
+import io.nuls.core.exception.NulsException;
+import io.nuls.core.mesasge.NulsMessage;
+import io.nuls.network.constant.NetworkConstant;
+import io.nuls.network.message.entity.GetVersionEvent;
+import io.nuls.network.message.entity.VersionEvent;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent
+ * @date 2026/10/18
+ */
+public class MessageCompressorTest {
+
+    private static final int MAGIC_NUMBER = 123456;
+
+    @BeforeClass
+    public static void init() {
+        //without a module configuration compression is on, as its default
+        MessageCompressor.init();
+    }
+
+    @Test
+    public void roundTrip() throws NulsException {
+        //repeated words compress well, like the hashes and addresses repeated in blocks
+        byte[] data = new byte[64 * 1024];
+        Random random = new Random(1);
+        for (int i = 0; i < data.length; i += 32) {
+            Arrays.fill(data, i, Math.min(i + 32, data.length), (byte) random.nextInt(4));
+        }
+        NulsMessage message = MessageCompressor.compress(MAGIC_NUMBER, data);
+        assertNotNull(message);
+        assertEquals(NetworkConstant.COMPRESSION_DEFLATE, message.getHeader().getArithmetic());
+        assertTrue(message.getData().length < data.length);
+
+        MessageCompressor.decompress(message);
+        assertArrayEquals(data, message.getData());
+    }
+
+    @Test
+    public void notSmaller() {
+        byte[] data = new byte[2048];
+        new Random(1).nextBytes(data);
+        assertNull(MessageCompressor.compress(MAGIC_NUMBER, data));
+    }
+
+    @Test
+    public void uncompressed() throws NulsException {
+        byte[] data = {1, 2, 3};
+        NulsMessage message = new NulsMessage(MAGIC_NUMBER, data);
+        MessageCompressor.decompress(message);
+        assertArrayEquals(data, message.getData());
+    }
+
+    @Test
+    public void inflateLimit() {
+        //11MB of zeros deflate to a few KB
+        NulsMessage message = MessageCompressor.compress(MAGIC_NUMBER, new byte[11 * 1024 * 1024]);
+        assertNotNull(message);
+        try {
+            MessageCompressor.decompress(message);
+            fail("the payload inflates past the limit");
+        } catch (NulsException e) {
+            assertEquals(ErrorCode.NET_MESSAGE_LENGTH_ERROR.getMsg(), e.getMessage());
+        }
+    }
+
+    @Test
+    public void unknownCodec() {
+        NulsMessage message = new NulsMessage(MAGIC_NUMBER, new byte[]{1, 2, 3});
+        message.getHeader().setArithmetic((byte) 2);
+        try {
+            MessageCompressor.decompress(message);
+            fail("the codec is not supported");
+        } catch (NulsException e) {
+            assertEquals(ErrorCode.NET_MESSAGE_ERROR.getMsg(), e.getMessage());
+        }
+    }
+
+    @Test
+    public void getVersionCodec() throws Exception {
+        GetVersionEvent event = new GetVersionEvent(8003);
+        event.setCompression(NetworkConstant.COMPRESSION_DEFLATE);
+        byte[] bytes = event.serialize();
+
+        GetVersionEvent parsed = new GetVersionEvent();
+        parsed.parse(bytes);
+        assertEquals(8003, parsed.getExternalPort());
+        assertEquals(NetworkConstant.COMPRESSION_DEFLATE, parsed.getCompression());
+
+        //an older node ends the event before the codec byte
+        GetVersionEvent old = new GetVersionEvent();
+        old.parse(Arrays.copyOf(bytes, bytes.length - 1));
+        assertEquals(8003, old.getExternalPort());
+        assertEquals(NetworkConstant.COMPRESSION_NONE, old.getCompression());
+    }
+
+    @Test
+    public void versionCodec() throws Exception {
+        VersionEvent event = new VersionEvent(8003, 100, "hash");
+        event.setNulsVersion("1.0");
+        event.setCompression(NetworkConstant.COMPRESSION_DEFLATE);
+        byte[] bytes = event.serialize();
+
+        VersionEvent parsed = new VersionEvent();
+        parsed.parse(bytes);
+        assertEquals(100, parsed.getBestBlockHeight());
+        assertEquals("1.0", parsed.getNulsVersion());
+        assertEquals(NetworkConstant.COMPRESSION_DEFLATE, parsed.getCompression());
+
+        VersionEvent old = new VersionEvent();
+        old.parse(Arrays.copyOf(bytes, bytes.length - 1));
+        assertEquals("hash", old.getBestBlockHash());
+        assertEquals(NetworkConstant.COMPRESSION_NONE, old.getCompression());
+    }
+}
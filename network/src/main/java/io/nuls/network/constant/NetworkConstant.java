@@ -42,9 +42,23 @@ public interface NetworkConstant {
     String NETWORK_SERVER_PORT = "network.server.port";
     String NETWORK_EXTER_PORT = "network.external.port";
     String NETWORK_MAGIC = "network.magic";
+    String NETWORK_EPOLL = "network.epoll";
+    String NETWORK_COMPRESSION = "network.compression";
     String NETWORK_NODE_MAX_IN = "net.node.max.in";
     String NETWORK_NODE_MAX_OUT = "net.node.max.out";
 
+    int CONNECT_TIMEOUT_MILLIS = 5000;
+    int CONNECT_RETRY_COUNT = 3;
+    long CONNECT_RETRY_DELAY_MILLIS = 1000;
+    int WRITE_BUFFER_LOW_WATER_MARK = 1 << 20;
+    int WRITE_BUFFER_HIGH_WATER_MARK = 4 << 20;
+    int EXPLICIT_FLUSH_AFTER_FLUSHES = 64;
+
+    //compression codecs, kept in the arithmetic byte of the message header
+    byte COMPRESSION_NONE = 0;
+    byte COMPRESSION_DEFLATE = 1;
+    int COMPRESSION_THRESHOLD = 1024;
+
     String NETWORK_NODE_IN_GROUP = "inNodes";
     String NETWORK_NODE_OUT_GROUP = "outNodes";
     String NETWORK_NODE_CONSENSUS_GROUP = "consensus_Group";
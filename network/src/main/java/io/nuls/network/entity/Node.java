@@ -85,6 +85,11 @@ public class Node extends BaseNulsData {
 
     private VersionEvent versionMessage;
 
+    /**
+     * the compression codec both sides support, negotiated by the version handshake
+     */
+    private volatile byte compression;
+
     public Node() {
         super();
     }
@@ -208,6 +213,14 @@ public class Node extends BaseNulsData {
         this.channelId = channelId;
     }
 
+    public byte getCompression() {
+        return compression;
+    }
+
+    public void setCompression(byte compression) {
+        this.compression = compression;
+    }
+
     public String getIp() {
         return ip;
     }
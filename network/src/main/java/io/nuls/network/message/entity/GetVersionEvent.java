@@ -43,6 +43,8 @@ public class GetVersionEvent extends BaseEvent {
 
     private int externalPort;
 
+    private byte compression;
+
     public GetVersionEvent() {
         super(NulsConstant.MODULE_ID_NETWORK, NetworkConstant.NETWORK_GET_VERSION_EVENT);
     }
@@ -56,6 +58,7 @@ public class GetVersionEvent extends BaseEvent {
     public int size() {
         int s = 0;
         s += EventHeader.EVENT_HEADER_LENGTH;
+        s += 1;
         s += VarInt.sizeOf(externalPort);
         return s;
     }
@@ -64,12 +67,17 @@ public class GetVersionEvent extends BaseEvent {
     protected void serializeToStream(NulsOutputStreamBuffer stream) throws IOException {
         stream.writeNulsData(getHeader());
         stream.writeVarInt(externalPort);
+        stream.write(compression);
     }
 
     @Override
     protected void parse(NulsByteBuffer byteBuffer) throws NulsException {
         this.setHeader(byteBuffer.readNulsData(new EventHeader()));
         externalPort = (int) byteBuffer.readVarInt();
+        //older nodes do not send the codecs they support
+        if (!byteBuffer.isFinished()) {
+            compression = byteBuffer.readByte();
+        }
     }
 
     @Override
@@ -93,4 +101,12 @@ public class GetVersionEvent extends BaseEvent {
     public int getExternalPort() {
         return externalPort;
     }
+
+    public byte getCompression() {
+        return compression;
+    }
+
+    public void setCompression(byte compression) {
+        this.compression = compression;
+    }
 }
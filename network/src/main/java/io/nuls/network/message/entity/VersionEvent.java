@@ -55,6 +55,7 @@ public class VersionEvent extends io.nuls.core.event.BaseEvent {
 
     private String nulsVersion;
 
+    private byte compression;
 
     public VersionEvent() {
         super(NulsConstant.MODULE_ID_NETWORK, NetworkConstant.NETWORK_VERSION_EVENT);
@@ -73,6 +74,7 @@ public class VersionEvent extends io.nuls.core.event.BaseEvent {
     public int size() {
         int s = 0;
         s += EventHeader.EVENT_HEADER_LENGTH;
+        s += 1;
         s += VarInt.sizeOf(externalPort);
         s += VarInt.sizeOf(bestBlockHeight);
         s += Utils.sizeOfString(bestBlockHash);
@@ -87,6 +89,7 @@ public class VersionEvent extends io.nuls.core.event.BaseEvent {
         stream.writeVarInt(bestBlockHeight);
         stream.writeString(bestBlockHash);
         stream.writeString(nulsVersion);
+        stream.write(compression);
     }
 
     @Override
@@ -96,6 +99,10 @@ public class VersionEvent extends io.nuls.core.event.BaseEvent {
         bestBlockHeight = byteBuffer.readVarInt();
         bestBlockHash = byteBuffer.readString();
         nulsVersion = byteBuffer.readString();
+        //older nodes do not send the codecs they support
+        if (!byteBuffer.isFinished()) {
+            compression = byteBuffer.readByte();
+        }
     }
 
     @Override
@@ -152,4 +159,12 @@ public class VersionEvent extends io.nuls.core.event.BaseEvent {
     public void setExternalPort(int externalPort) {
         this.externalPort = externalPort;
     }
+
+    public byte getCompression() {
+        return compression;
+    }
+
+    public void setCompression(byte compression) {
+        this.compression = compression;
+    }
 }
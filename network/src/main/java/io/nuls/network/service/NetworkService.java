@@ -24,12 +24,12 @@
 package io.nuls.network.service;
 
 import io.nuls.core.event.BaseEvent;
+import io.nuls.core.mesasge.NulsMessage;
 import io.nuls.network.entity.BroadcastResult;
 import io.nuls.network.entity.Node;
 import io.nuls.network.entity.NodeGroup;
 import io.nuls.network.entity.param.AbstractNetworkParam;
 
-import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Set;
 
@@ -79,6 +79,6 @@ public interface NetworkService {
 
     BroadcastResult sendToGroup(BaseEvent event, String groupName, String excludeNodeId, boolean asyn);
 
-    void receiveMessage(ByteBuffer buffer, Node node);
+    void receiveMessage(NulsMessage message, Node node);
 
 }